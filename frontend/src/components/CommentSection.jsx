@@ -1,12 +1,39 @@
-import {useState} from 'react';
+import {useState, useEffect, useCallback} from 'react';
 import axios from 'axios';
 import {useNavigate} from 'react-router-dom';
 
-function CommentSection({postId, replies, onCommentChange}) {
+function CommentSection({postId, replyCount, onCommentChange}) {
   const [content, setContent] = useState('');
+  const [replies, setReplies] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [hasNext, setHasNext] = useState(false);
+  const [loading, setLoading] = useState(false);
   const currentUser = localStorage.getItem('username');
   const navigate = useNavigate();
 
+  // 0. 댓글 목록 (커서 페이징, cursor 가 없으면 처음부터 다시)
+  const fetchReplies = useCallback(async (cursor) => {
+    setLoading(true);
+    try {
+      const token = localStorage.getItem('token');
+      const res = await axios.get(`/api/posts/${postId}/replies`, {
+        params: cursor ? {cursor} : {},
+        headers: token ? {Authorization: `Bearer ${token}`} : {}
+      });
+      setReplies(prev => cursor ? [...prev, ...res.data.content] : res.data.content);
+      setNextCursor(res.data.nextCursor);
+      setHasNext(res.data.hasNext);
+    } catch (err) {
+      console.error(err);
+    } finally {
+      setLoading(false);
+    }
+  }, [postId]);
+
+  useEffect(() => {
+    fetchReplies(null);
+  }, [fetchReplies]);
+
   // 1. 댓글 등록
   const handleSubmit = async (e) => {
     e.preventDefault();
@@ -30,6 +57,7 @@ function CommentSection({postId, replies, onCommentChange}) {
       );
 
       setContent(''); // 입력창 비우기
+      fetchReplies(null);
       onCommentChange();
 
     } catch (error) {
@@ -48,7 +76,8 @@ function CommentSection({postId, replies, onCommentChange}) {
         headers: {Authorization: `Bearer ${token}`}
       });
 
-      onCommentChange(); // 데이터 갱신
+      setReplies(prev => prev.filter(reply => reply.id !== replyId));
+      onCommentChange(); // 댓글 수 갱신
 
     } catch (error) {
       console.error(error);
@@ -59,7 +88,7 @@ function CommentSection({postId, replies, onCommentChange}) {
   return (
     <div className="mt-10 border-t border-gray-100 pt-10">
       <h3 className="text-xl font-bold text-gray-800 mb-6">
-        댓글 <span className="text-green-600">{replies.length}</span>
+        댓글 <span className="text-green-600">{replyCount ?? replies.length}</span>
       </h3>
 
       {/* 댓글 작성 폼 */}
@@ -88,17 +117,17 @@ function CommentSection({postId, replies, onCommentChange}) {
 
               {/* ★ 프로필 이미지 */}
               <div className="w-10 h-10 rounded-full overflow-hidden flex-shrink-0 border border-gray-100">
-                {reply.author.profileImg ? (
+                {reply.authorProfileImg ? (
                   // 1. 이미지가 있을 때: 사진 표시
                   <img
-                    src={`http://localhost:8080${reply.author.profileImg}`}
-                    alt={reply.author.username}
+                    src={`http://localhost:8080${reply.authorProfileImg}`}
+                    alt={reply.authorName}
                     className="w-full h-full object-cover"
                   />
                 ) : (
                   // 2. 이미지가 없을 때: 기존 디자인 (초록 배경 + 이니셜) 유지
                   <div className="w-full h-full bg-green-100 flex items-center justify-center text-green-600 font-bold">
-                    {reply.author.username.charAt(0).toUpperCase()}
+                    {reply.authorName.charAt(0).toUpperCase()}
                   </div>
                 )}
               </div>
@@ -106,7 +135,7 @@ function CommentSection({postId, replies, onCommentChange}) {
               <div className="flex-1">
                 <div className="flex items-center justify-between mb-1">
             <span className="font-bold text-gray-900">
-              {reply.author.username}
+              {reply.authorName}
             </span>
                   <div className="flex items-center gap-2">
               <span className="text-xs text-gray-400">
@@ -114,7 +143,7 @@ function CommentSection({postId, replies, onCommentChange}) {
               </span>
 
                     {/* 내 댓글일 때만 삭제 버튼 표시 */}
-                    {currentUser === reply.author.username && (
+                    {currentUser === reply.authorName && (
                       <button
                         onClick={() => handleDelete(reply.id)}
                         className="text-gray-400 hover:text-red-500 text-xs opacity-0 group-hover:opacity-100 transition-opacity"
@@ -131,11 +160,23 @@ function CommentSection({postId, replies, onCommentChange}) {
             </div>
           ))
         ) : (
-          <p className="text-center text-gray-400 py-8">
-            아직 작성된 댓글이 없습니다. 첫 번째 댓글을 남겨보세요! 🍃
-          </p>
+          !loading && (
+            <p className="text-center text-gray-400 py-8">
+              아직 작성된 댓글이 없습니다. 첫 번째 댓글을 남겨보세요! 🍃
+            </p>
+          )
         )}
       </div>
+
+      {hasNext && (
+        <button
+          onClick={() => fetchReplies(nextCursor)}
+          disabled={loading}
+          className="w-full mt-6 py-3 rounded-xl border border-gray-200 text-sm font-medium text-gray-500 hover:bg-gray-50 transition-colors"
+        >
+          {loading ? '불러오는 중... ⏳' : '댓글 더 보기'}
+        </button>
+      )}
     </div>
   );
 }
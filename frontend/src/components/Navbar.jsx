@@ -22,7 +22,7 @@ function Navbar() {
         headers: {Authorization: `Bearer ${token}`}
       })
         .then(res => {
-          setProfileImg(res.data.profileImg);
+          setProfileImg(res.data.profileThumbPath || res.data.profileImg);
         })
         .catch(err => {
           console.error("내 정보 로딩 실패:", err);
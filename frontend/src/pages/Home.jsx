@@ -12,13 +12,19 @@ function Home() {
   const [kw, setKw] = useState("");
   const [inputText, setInputText] = useState("");
 
-  const currentUser = localStorage.getItem('username');
   const observerTarget = useRef(null);
 
+  // 실시간 피드 (SSE): 새 글 알림, 댓글 수/추천 수 반영
+  const [newPostCount, setNewPostCount] = useState(0);
+  const ownVotes = useRef({}); // 내가 누른 추천은 이미 화면에 반영했으므로 SSE 변화량에서 뺀다
+
   const fetchPosts = useCallback(async () => {
     setLoading(true);
     try {
-      const res = await axios.get(`/api/posts?page=${page}&kw=${kw}`);
+      const token = localStorage.getItem('token');
+      const res = await axios.get(`/api/posts?page=${page}&kw=${kw}`, {
+        headers: token ? {Authorization: `Bearer ${token}`} : {}
+      });
       const newPosts = res.data.content;
       const isLast = res.data.last;
 
@@ -42,6 +48,47 @@ function Home() {
     fetchPosts();
   }, [page, kw, fetchPosts, hasMore]);
 
+  useEffect(() => {
+    const source = new EventSource('/api/posts/live');
+
+    source.addEventListener('post-created', () => setNewPostCount(count => count + 1));
+
+    source.addEventListener('reply-created', (e) => {
+      const {postId} = JSON.parse(e.data);
+      setPosts(prev => prev.map(post =>
+        post.id === postId ? {...post, replyCount: post.replyCount + 1} : post));
+    });
+
+    source.addEventListener('vote-changed', (e) => {
+      const {postId, delta} = JSON.parse(e.data);
+      const own = ownVotes.current[postId] || 0;
+      const applied = delta - own;
+      ownVotes.current[postId] = 0;
+      if (applied === 0) return;
+      setPosts(prev => prev.map(post =>
+        post.id === postId ? {...post, voteCount: post.voteCount + applied} : post));
+    });
+
+    // 놓친 이벤트가 있음: 새로 읽으라는 안내만
+    source.addEventListener('resync', () => setNewPostCount(count => Math.max(count, 1)));
+
+    return () => source.close();
+  }, []);
+
+  const showNewPosts = () => {
+    setNewPostCount(0);
+    setKw('');
+    setInputText('');
+    setHasMore(true);
+    if (page === 0) {
+      fetchPosts();
+    } else {
+      setPosts([]);
+      setPage(0);
+    }
+    window.scrollTo({top: 0, behavior: 'smooth'});
+  };
+
   useEffect(() => {
     const observer = new IntersectionObserver(
       (entries) => {
@@ -75,6 +122,10 @@ function Home() {
       return;
     }
 
+    const target = posts.find(post => post.id === postId);
+    const delta = target && target.liked ? -1 : 1;
+    ownVotes.current[postId] = (ownVotes.current[postId] || 0) + delta;
+
     try {
       await axios.post(`/api/posts/${postId}/like`, {}, {
         headers: {Authorization: `Bearer ${token}`}
@@ -82,20 +133,14 @@ function Home() {
 
       setPosts(prevPosts => prevPosts.map(post => {
         if (post.id === postId) {
-          const isLiked = post.voter?.some(v => v.username === currentUser);
-          let newVoter = post.voter || [];
-
-          if (isLiked) {
-            newVoter = newVoter.filter(v => v.username !== currentUser);
-          } else {
-            newVoter = [...newVoter, {username: currentUser}];
-          }
-          return {...post, voter: newVoter};
+          const liked = !post.liked;
+          return {...post, liked, voteCount: post.voteCount + (liked ? 1 : -1)};
         }
         return post;
       }));
 
     } catch (error) {
+      ownVotes.current[postId] -= delta;
       console.error(error);
       alert('오류가 발생했습니다.');
     }
@@ -123,10 +168,19 @@ function Home() {
         </form>
       </div>
 
+      {newPostCount > 0 && (
+        <button
+          onClick={showNewPosts}
+          className="w-full mb-6 py-3 rounded-xl bg-green-50 border border-green-200 text-green-700 text-sm font-bold hover:bg-green-100 transition-colors"
+        >
+          새 글이 있습니다 ({newPostCount}) · 새로 보기 🌱
+        </button>
+      )}
+
       <div className="grid gap-6 md:grid-cols-2">
         {posts.length > 0 ? (
           posts.map(post => {
-            const isLiked = post.voter?.some(v => v.username === currentUser);
+            const isLiked = post.liked;
 
             return (
               <Link to={`/post/${post.id}`} key={post.id} className="block group">
@@ -135,10 +189,10 @@ function Home() {
 
                   {/* 썸네일 영역 */}
                   <div className="h-48 overflow-hidden bg-gray-100 relative">
-                    {post.filePath ? (
+                    {post.thumbnailPath ? (
                       // 1. 이미지가 있을 경우
                       <img
-                        src={`http://localhost:8080${post.filePath}`}
+                        src={`http://localhost:8080${post.thumbnailPath}`}
                         alt={post.title}
                         className="w-full h-full object-cover group-hover:scale-105 transition-transform duration-500"
                       />
@@ -155,10 +209,10 @@ function Home() {
                     <h3
                       className="text-lg font-bold text-gray-900 mb-2 flex items-center gap-2 group-hover:text-green-700 transition-colors">
                       <span className="line-clamp-1">{post.title}</span>
-                      {post.replyList && post.replyList.length > 0 && (
+                      {post.replyCount > 0 && (
                         <span
                           className="flex-shrink-0 text-xs font-bold text-green-600 bg-green-100 px-2 py-0.5 rounded-full">
-                          💬 {post.replyList.length}
+                          💬 {post.replyCount}
                         </span>
                       )}
                     </h3>
@@ -170,9 +224,9 @@ function Home() {
                     <div
                       className="flex items-center justify-between text-xs text-gray-400 border-t border-gray-50 pt-3">
                       <span className="flex items-center gap-2">
-                        {post.author && post.author.profileImg ? (
+                        {post.authorProfileImg ? (
                           <img
-                            src={`http://localhost:8080${post.author.profileImg}`}
+                            src={`http://localhost:8080${post.authorProfileImg}`}
                             alt="Author"
                             className="w-5 h-5 rounded-full object-cover border border-gray-100"
                           />
@@ -180,7 +234,7 @@ function Home() {
                           <span>👤</span>
                         )}
                         <span className="font-medium text-gray-600">
-                          {post.author ? post.author.username : '익명'}
+                          {post.authorName || '익명'}
                         </span>
                       </span>
 
@@ -195,7 +249,7 @@ function Home() {
                         >
                           <span className="text-xs">{isLiked ? '❤️' : '🤍'}</span>
                           <span className="font-bold text-xs">
-                            {post.voter ? post.voter.length : 0}
+                            {post.voteCount}
                           </span>
                         </button>
 
@@ -9,9 +9,12 @@ function MyPage() {
   const [file, setFile] = useState(null);
 
   const [activeTab, setActiveTab] = useState('posts');
-  const [myPosts, setMyPosts] = useState([]);
-  const [myReplies, setMyReplies] = useState([]);
-  const [myLikes, setMyLikes] = useState([]);
+  const [stats, setStats] = useState(null);
+  // 탭 목록 (커서 페이징: 더 보기 누를 때마다 다음 묶음)
+  const [items, setItems] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [hasNext, setHasNext] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   // 비밀번호 변경 상태
   const [showPasswordModal, setShowPasswordModal] = useState(false);
@@ -39,25 +42,50 @@ function MyPage() {
         if (res.data.profileImg) setPreview(`http://localhost:8080${res.data.profileImg}`);
       })
       .catch(() => navigate('/login'));
+    axios.get('/api/users/me/stats', {headers: {Authorization: `Bearer ${token}`}})
+      .then(res => setStats(res.data))
+      .catch(() => setStats(null));
   }, [navigate]);
 
-  // 탭 데이터 로딩
+  // 탭 데이터 로딩 (첫 묶음)
   useEffect(() => {
     const token = localStorage.getItem('token');
     if (!token) return;
 
-    if (activeTab === 'posts') {
-      axios.get('/api/users/me/posts', {headers: {Authorization: `Bearer ${token}`}})
-        .then(res => setMyPosts(res.data));
-    } else if (activeTab === 'replies') {
-      axios.get('/api/users/me/replies', {headers: {Authorization: `Bearer ${token}`}})
-        .then(res => setMyReplies(res.data));
-    } else if (activeTab === 'likes') {
-      axios.get('/api/users/me/likes', {headers: {Authorization: `Bearer ${token}`}})
-        .then(res => setMyLikes(res.data));
-    }
+    let cancelled = false;
+    setItems([]);
+    setNextCursor(null);
+    setHasNext(false);
+    axios.get(`/api/users/me/${activeTab}`, {headers: {Authorization: `Bearer ${token}`}})
+      .then(res => {
+        if (cancelled) return;
+        setItems(res.data.content);
+        setNextCursor(res.data.nextCursor);
+        setHasNext(res.data.hasNext);
+      });
+    return () => {
+      cancelled = true;
+    };
   }, [activeTab]);
 
+  // 다음 묶음
+  const loadMore = async () => {
+    if (!hasNext || loadingMore) return;
+    const token = localStorage.getItem('token');
+    setLoadingMore(true);
+    try {
+      const res = await axios.get(`/api/users/me/${activeTab}`, {
+        params: {cursor: nextCursor},
+        headers: {Authorization: `Bearer ${token}`}
+      });
+      setItems(prev => [...prev, ...res.data.content]);
+      setNextCursor(res.data.nextCursor);
+      setHasNext(res.data.hasNext);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleFileChange = (e) => {
     if (e.target.files && e.target.files[0]) {
       setFile(e.target.files[0]);
@@ -146,7 +174,7 @@ function MyPage() {
         data: {password: withdrawPassword}
       });
 
-      alert('회원 탈퇴가 완료되었습니다. 그동안 이용해주셔서 감사합니다. 🙇‍♂️');
+      alert('회원 탈퇴가 완료되었습니다. 작성하신 글과 댓글은 잠시 후 모두 삭제됩니다. 그동안 이용해주셔서 감사합니다. 🙇‍♂️');
       localStorage.removeItem('token');
       localStorage.removeItem('username');
       navigate('/');
@@ -205,6 +233,15 @@ function MyPage() {
           </button>
         )}
 
+        {/* 활동 요약 */}
+        {stats && (
+          <div className="flex justify-center gap-8 mt-2 mb-2 text-sm">
+            <div><span className="font-bold text-gray-800">{stats.postCount}</span> <span className="text-gray-400">글</span></div>
+            <div><span className="font-bold text-gray-800">{stats.replyCount}</span> <span className="text-gray-400">댓글</span></div>
+            <div><span className="font-bold text-gray-800">{stats.likeCount}</span> <span className="text-gray-400">좋아요</span></div>
+          </div>
+        )}
+
         {/* 비밀번호 변경 */}
         <div className="mt-6 border-t border-gray-100 pt-6">
           <button onClick={() => setShowPasswordModal(true)}
@@ -233,26 +270,26 @@ function MyPage() {
       {/* 리스트 */}
       <div className="space-y-4 pb-20">
         {activeTab === 'posts' && (
-          myPosts.length > 0 ? myPosts.map(post => (
+          items.length > 0 ? items.map(post => (
             <Link to={`/post/${post.id}`} key={post.id}
                   className="block bg-white p-5 rounded-xl border border-gray-100 hover:shadow-md transition-all">
               <h3 className="font-bold text-gray-800 mb-1">{post.title}</h3>
               <div className="text-xs text-gray-400 flex gap-2">
                 <span>{new Date(post.createDate).toLocaleDateString()}</span>
                 <span>• 조회 {post.view}</span>
-                <span>• 추천 {post.voter ? post.voter.length : 0}</span>
+                <span>• 추천 {post.voteCount}</span>
               </div>
             </Link>
           )) : <div className="text-center py-10 text-gray-400">작성한 글이 없습니다. 🍃</div>
         )}
 
         {activeTab === 'replies' && (
-          myReplies.length > 0 ? myReplies.map(reply => (
-            <Link to={`/post/${reply.post.id}`} key={reply.id}
+          items.length > 0 ? items.map(reply => (
+            <Link to={`/post/${reply.postId}`} key={reply.id}
                   className="block bg-white p-5 rounded-xl border border-gray-100 hover:shadow-md transition-all">
               <div className="text-sm text-gray-800 mb-2">"{reply.content}"</div>
               <div className="text-xs text-gray-400">
-                <span className="font-bold text-green-600">원문: {reply.post.title}</span>
+                <span className="font-bold text-green-600">원문: {reply.postTitle}</span>
                 <span className="mx-2">•</span>
                 <span>{new Date(reply.createDate).toLocaleDateString()}</span>
               </div>
@@ -261,7 +298,7 @@ function MyPage() {
         )}
 
         {activeTab === 'likes' && (
-          myLikes.length > 0 ? myLikes.map(post => (
+          items.length > 0 ? items.map(post => (
             <Link to={`/post/${post.id}`} key={post.id}
                   className="block bg-white p-5 rounded-xl border border-gray-100 hover:shadow-md transition-all">
               <div className="flex items-center gap-2 mb-1">
@@ -269,12 +306,19 @@ function MyPage() {
                 <h3 className="font-bold text-gray-800">{post.title}</h3>
               </div>
               <div className="text-xs text-gray-400 flex gap-2 pl-6">
-                <span>작성자: {post.author ? post.author.username : '익명'}</span>
+                <span>작성자: {post.authorName || '익명'}</span>
                 <span>• {new Date(post.createDate).toLocaleDateString()}</span>
               </div>
             </Link>
           )) : <div className="text-center py-10 text-gray-400">좋아요를 누른 글이 없습니다. 🍃</div>
         )}
+
+        {hasNext && (
+          <button onClick={loadMore} disabled={loadingMore}
+                  className="w-full py-3 text-sm font-bold text-gray-500 hover:text-green-600 bg-white border border-gray-100 rounded-xl transition-colors disabled:opacity-50">
+            {loadingMore ? '불러오는 중... ⏳' : '더 보기'}
+          </button>
+        )}
       </div>
 
       {/* 회원 탈퇴 버튼 */}
@@ -13,7 +13,10 @@ function PostDetail() {
 
   // 게시글 데이터 불러오기
   const fetchPost = useCallback(() => {
-    axios.get(`/api/posts/${id}`)
+    const token = localStorage.getItem('token');
+    axios.get(`/api/posts/${id}`, {
+      headers: token ? {Authorization: `Bearer ${token}`} : {}
+    })
       .then(res => setPost(res.data))
       .catch(err => console.error(err));
   }, [id]);
@@ -68,7 +71,7 @@ function PostDetail() {
   if (!post) return <div className="text-center py-20">로딩 중... ⏳</div>;
 
   // 내가 좋아요를 눌렀는지 확인
-  const isLiked = post.voter?.some(v => v.username === currentUser);
+  const isLiked = post.liked;
 
   return (
     <div className="max-w-3xl mx-auto">
@@ -79,7 +82,7 @@ function PostDetail() {
         </button>
 
         {/* 작성자 본인일 때만 수정/삭제 버튼 표시 */}
-        {currentUser === post.author.username && (
+        {currentUser === post.authorName && (
           <div className="flex gap-2">
             <button
               onClick={() => navigate(`/edit/${id}`)}
@@ -103,16 +106,16 @@ function PostDetail() {
 
         <div className="flex items-center gap-4 text-sm text-gray-500 border-b border-gray-100 pb-6 mb-6">
           <div className="flex items-center gap-2">
-            {post.author.profileImg ? (
+            {post.authorProfileImg ? (
               <img
-                src={`http://localhost:8080${post.author.profileImg}`}
+                src={`http://localhost:8080${post.authorProfileImg}`}
                 alt="Author"
                 className="w-8 h-8 rounded-full object-cover border border-gray-200"
               />
             ) : (
               <span className="text-xl">👤</span>
             )}
-            <span className="font-bold text-gray-800">{post.author.username}</span>
+            <span className="font-bold text-gray-800">{post.authorName}</span>
           </div>
           <span>•</span>
           <span>{new Date(post.createDate).toLocaleString()}</span>
@@ -133,7 +136,7 @@ function PostDetail() {
 
             {/* 좋아요 개수 */}
             <span className="font-bold">
-              {post.voter ? post.voter.length : 0}
+              {post.voteCount}
             </span>
           </button>
         </div>
@@ -156,7 +159,7 @@ function PostDetail() {
         {/* 댓글 섹션 연결 */}
         <CommentSection
           postId={id}
-          replies={post.replyList || []}
+          replyCount={post.replyCount}
           onCommentChange={fetchPost}
         />
       </div>
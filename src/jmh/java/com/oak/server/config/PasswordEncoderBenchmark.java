@@ -0,0 +1,43 @@
+package com.oak.server.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// BCrypt cost(strength) 별 로그인 1건 비용
+// cost 가 1 오를 때마다 약 2배. 로그인 지연 목표(수백 ms 이내) 안에서 가장 높은 값을 고르는 데 사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW = "correct-horse-battery-staple";
+
+    // SecurityConfig 기본값은 10
+    @Param({"10", "11", "12", "13"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setup() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode(RAW);
+    }
+
+    // 회원 가입 / 비밀번호 변경
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW);
+    }
+
+    // 로그인
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW, encoded);
+    }
+}
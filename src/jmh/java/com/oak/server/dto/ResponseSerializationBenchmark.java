@@ -0,0 +1,90 @@
+package com.oak.server.dto;
+
+import com.oak.server.domain.Post;
+import com.oak.server.domain.Reply;
+import com.oak.server.domain.SiteUser;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 응답 JSON 직렬화 비용 (댓글 수별)
+// entity*: 엔티티 그래프를 그대로 직렬화 (댓글마다 글/작성자가 반복됨)
+// dto*   : 실제 API 가 내보내는 PostDetail + 댓글 페이지(CursorSlice<ReplyResponse>)
+// 추천자는 응답에 싣지 않고 voteCount 숫자만 보내므로 추천 수는 크기에 영향이 없다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"0", "20", "100"})
+    public int replies;
+
+    private JsonMapper mapper;
+
+    private Post post;
+    private List<Reply> replyEntities;
+    private PostDetail detail;
+    private CursorSlice<ReplyResponse> replyPage;
+
+    @Setup
+    public void setup() {
+        mapper = JsonMapper.builder().build();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+        SiteUser author = new SiteUser();
+        author.setId(1L);
+        author.setUsername("author");
+        author.setEmail("author@oak.test");
+        author.setProfileImg("/files/0123456789abcdef.png");
+
+        post = new Post();
+        post.setId(1L);
+        post.setTitle("직렬화 벤치마크");
+        post.setContent("본문 ".repeat(300));
+        post.setCreateDate(now);
+        post.setAuthor(author);
+
+        replyEntities = new ArrayList<>(replies);
+        List<ReplyResponse> responses = new ArrayList<>(replies);
+        for (int i = 0; i < replies; i++) {
+            Reply reply = new Reply();
+            reply.setId((long) i);
+            reply.setContent("댓글 내용 " + i);
+            reply.setCreateDate(now.plusMinutes(i));
+            reply.setPost(post);
+            reply.setAuthor(author);
+            replyEntities.add(reply);
+            responses.add(new ReplyResponse((long) i, 1L, reply.getContent(), reply.getCreateDate(),
+                    author.getUsername(), author.getProfileImg(), i % 7));
+        }
+        post.setReplyList(replyEntities);
+
+        detail = new PostDetail(1L, post.getTitle(), post.getContent(), null, null, now, null, 1234,
+                author.getUsername(), author.getProfileImg(), replies, 42, 1, now);
+        replyPage = new CursorSlice<>(responses, replies > 0 ? "MjAyNi0wMS0wMVQxMjowMHwx" : null, replies > 0);
+    }
+
+    @Benchmark
+    public byte[] entityPost() {
+        return mapper.writeValueAsBytes(post);
+    }
+
+    @Benchmark
+    public byte[] entityReplies() {
+        return mapper.writeValueAsBytes(replyEntities);
+    }
+
+    @Benchmark
+    public byte[] dtoDetail() {
+        return mapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] dtoReplyPage() {
+        return mapper.writeValueAsBytes(replyPage);
+    }
+}
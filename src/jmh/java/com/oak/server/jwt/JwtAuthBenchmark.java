@@ -0,0 +1,63 @@
+package com.oak.server.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 요청 1건당 인증 비용 비교 (필터가 토큰을 처리하는 부분만)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "v3ry-s3cr3t-k3y-f0r-oak-pr0j3ct-2026-must-be-l0ng-3nough";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedProvider = new JwtTokenProvider(SECRET, 0);
+        cachedProvider = new JwtTokenProvider(SECRET, 10_000);
+        token = cachedProvider.createToken("testuser");
+        cachedProvider.parseAndValidate(token);
+    }
+
+    // 이전 방식: validateToken + getUsername 이 각각 파서를 만들고 서명을 검증
+    @Benchmark
+    public String before_validateThenGetUsername() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    // 재사용 파서로 한 번만 검증
+    @Benchmark
+    public String after_parseAndValidate() {
+        return uncachedProvider.parseAndValidate(token).getSubject();
+    }
+
+    // 재사용 파서 + 검증된 토큰 캐시 적중
+    @Benchmark
+    public String after_parseAndValidateCached() {
+        return cachedProvider.parseAndValidate(token).getSubject();
+    }
+
+    // 로그인 1건당 토큰 발급 비용 (HMAC 서명 + 직렬화)
+    @Benchmark
+    public String createToken() {
+        return uncachedProvider.createToken("testuser");
+    }
+
+    // 필터가 부르는 validateToken (캐시 없음 = 서명 검증 매번)
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedProvider.validateToken(token);
+    }
+}
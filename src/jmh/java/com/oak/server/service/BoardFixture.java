@@ -0,0 +1,86 @@
+package com.oak.server.service;
+
+import com.oak.server.OakApplication;
+import com.oak.server.domain.SiteUser;
+import com.oak.server.domain.Post;
+import com.oak.server.dto.PostBatchItem;
+import com.oak.server.repository.PostRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// 서비스 벤치마크 공용 상태: loadtest 프로필(H2 메모리 DB)로 애플리케이션을 띄우고 글/댓글/회원을 채워 둔다
+// 포크마다 한 번만 띄우므로 같은 포크 안의 벤치마크는 같은 데이터를 본다
+@State(Scope.Benchmark)
+public class BoardFixture {
+
+    // 결과가 매번 같도록 고정 시드
+    private static final long SEED = 42L;
+
+    @Param({"5000"})
+    public int posts;
+
+    // 추천 토글에 쓰는 회원 수
+    public static final int VOTERS = 100;
+
+    ConfigurableApplicationContext context;
+    PostService postService;
+    List<SiteUser> voters;
+    long[] postIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(OakApplication.class)
+                .profiles("loadtest")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:oak-jmh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "search.lucene.index-dir=./build/jmh/search-index",
+                        "logging.level.root=WARN")
+                .run();
+        postService = context.getBean(PostService.class);
+        UserService userService = context.getBean(UserService.class);
+
+        SiteUser author = userService.create("jmh-author", "jmh-author@oak.test", "password");
+        voters = new ArrayList<>(VOTERS);
+        for (int i = 0; i < VOTERS; i++) {
+            voters.add(userService.create("jmh-voter-" + i, "jmh-voter-" + i + "@oak.test", "password"));
+        }
+
+        Random random = new Random(SEED);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<PostBatchItem> items = IntStream.range(0, posts).mapToObj(i -> {
+            PostBatchItem item = new PostBatchItem();
+            item.setTitle("벤치마크 게시글 " + i);
+            item.setContent("본문 ".repeat(20 + random.nextInt(200)));
+            item.setCreateDate(base.plusMinutes(i));
+            List<PostBatchItem.ReplyItem> replies = new ArrayList<>();
+            for (int r = random.nextInt(4); r > 0; r--) {
+                PostBatchItem.ReplyItem reply = new PostBatchItem.ReplyItem();
+                reply.setContent("댓글 " + r);
+                replies.add(reply);
+            }
+            item.setReplies(replies);
+            return item;
+        }).toList();
+        postService.writeAll(items, author, 500, progress -> {
+        });
+        postIds = context.getBean(PostRepository.class).findAll().stream().mapToLong(Post::getId).sorted().toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+}
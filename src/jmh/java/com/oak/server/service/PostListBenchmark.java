@@ -0,0 +1,44 @@
+package com.oak.server.service;
+
+import com.oak.server.domain.Post;
+import com.oak.server.dto.CursorSlice;
+import com.oak.server.dto.PostSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+// 글 목록 조회 경로 비교 (H2 메모리 DB, BoardFixture 데이터)
+// page 0 은 PostReadCache 대상, 50 은 OFFSET 이 깊은 페이지
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostListBenchmark {
+
+    @Param({"0", "50"})
+    public int page;
+
+    // 엔티티 목록 (Post + author 지연 로딩)
+    @Benchmark
+    public Page<Post> getList(BoardFixture fixture) {
+        return fixture.postService.getList(page, null);
+    }
+
+    // 요약 DTO 목록 (목록 API 가 실제로 쓰는 경로)
+    @Benchmark
+    public Page<PostSummary> getSummaryList(BoardFixture fixture) {
+        return fixture.postService.getSummaryList(page, null, "latest", null);
+    }
+
+    // 인기순 (voteCount 인덱스)
+    @Benchmark
+    public Page<PostSummary> getSummaryListPopular(BoardFixture fixture) {
+        return fixture.postService.getSummaryList(page, null, "popular", null);
+    }
+
+    // 첫 묶음 키셋 피드 (page 값과 무관, 비교 기준)
+    @Benchmark
+    public CursorSlice<PostSummary> getFeed(BoardFixture fixture) {
+        return fixture.postService.getFeed(null, 10, null);
+    }
+}
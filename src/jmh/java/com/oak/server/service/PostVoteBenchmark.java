@@ -0,0 +1,48 @@
+package com.oak.server.service;
+
+import com.oak.server.domain.SiteUser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 글 추천 토글 1건 비용 (DELETE/INSERT + 추천 수 UPDATE + 커밋 후 캐시 무효화)
+// hot: 모든 요청이 같은 글 한 건에 몰림 (행 잠금 경합), spread: 글마다 고르게
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostVoteBenchmark {
+
+    // 스레드마다 겹치지 않는 회원을 쓰도록 (같은 회원이 같은 글을 동시에 토글하지 않게)
+    private static final int THREADS = 4;
+    private static final AtomicInteger THREAD_INDEX = new AtomicInteger();
+
+    private int thread;
+    private int sequence;
+
+    @Setup
+    public void setup() {
+        thread = THREAD_INDEX.getAndIncrement() % THREADS;
+    }
+
+    @Benchmark
+    public boolean toggleHot(BoardFixture fixture) {
+        return fixture.postService.vote(fixture.postIds[0], nextVoter(fixture));
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public boolean toggleHotContended(BoardFixture fixture) {
+        return fixture.postService.vote(fixture.postIds[0], nextVoter(fixture));
+    }
+
+    @Benchmark
+    public boolean toggleSpread(BoardFixture fixture) {
+        long postId = fixture.postIds[sequence % fixture.postIds.length];
+        return fixture.postService.vote(postId, nextVoter(fixture));
+    }
+
+    private SiteUser nextVoter(BoardFixture fixture) {
+        return fixture.voters.get((thread + THREADS * sequence++) % BoardFixture.VOTERS);
+    }
+}
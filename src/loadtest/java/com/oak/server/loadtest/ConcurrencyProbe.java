@@ -0,0 +1,109 @@
+package com.oak.server.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 동시 접속 수 상한 측정
+// 단계마다 N 개의 클라이언트가 쉬지 않고 같은 URL 을 요청하고, 처리량 / p50 / p99 / 에러율을 출력한다
+// 플랫폼 스레드 모드와 가상 스레드 모드(virtual 프로필)에서 각각 돌려 상한을 비교한다
+public class ConcurrencyProbe {
+
+    // 에러율 1% 미만, p99 1초 미만인 마지막 단계를 상한으로 본다
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final long MAX_P99_MILLIS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args[0]);
+        int[] levels = Arrays.stream(args[1].split(",")).mapToInt(Integer::parseInt).toArray();
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[2]));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("%-8s %10s %10s %10s %8s%n", "clients", "req/s", "p50(ms)", "p99(ms)", "errors");
+        int ceiling = 0;
+        for (int level : levels) {
+            Result result = run(client, uri, level, duration);
+            System.out.printf("%-8d %10.1f %10.1f %10.1f %7.2f%%%n",
+                    level, result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99),
+                    result.errorRate() * 100);
+            if (result.errorRate() < MAX_ERROR_RATE && result.percentileMillis(0.99) < MAX_P99_MILLIS) {
+                ceiling = level;
+            }
+        }
+        System.out.println("concurrency ceiling: " + ceiling);
+    }
+
+    private static Result run(HttpClient client, URI uri, int clients, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(10)).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Worker>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(workers.submit(() -> {
+                    Worker worker = new Worker();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                worker.errors++;
+                                continue;
+                            }
+                            worker.latencies.add(System.nanoTime() - start);
+                        } catch (Exception e) {
+                            worker.errors++;
+                        }
+                    }
+                    return worker;
+                }));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            long errors = 0;
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get();
+                latencies.addAll(worker.latencies);
+                errors += worker.errors;
+            }
+            return new Result(latencies.stream().mapToLong(Long::longValue).sorted().toArray(), errors, duration);
+        }
+    }
+
+    private static class Worker {
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+    }
+
+    private record Result(long[] sortedLatencies, long errors, Duration duration) {
+
+        double throughput() {
+            return sortedLatencies.length / (double) duration.toSeconds();
+        }
+
+        double errorRate() {
+            long total = sortedLatencies.length + errors;
+            return total == 0 ? 0 : errors / (double) total;
+        }
+
+        double percentileMillis(double p) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int idx = (int) Math.min(sortedLatencies.length - 1, Math.ceil(p * sortedLatencies.length) - 1);
+            return sortedLatencies[Math.max(0, idx)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.oak.server.loadtest;
+
+// 지연 시간 히스토그램 (로그 버킷, 상대 오차 약 1.5%)
+// 요청마다 값을 저장하지 않으므로 수백만 건을 기록해도 메모리가 일정하다
+// 스레드 하나가 하나씩 쓰고 마지막에 merge 로 합친다 (동기화 없음)
+class LatencyHistogram {
+
+    // 2^k ~ 2^(k+1) 구간을 64칸으로 나눔
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[64 * SUB_BUCKETS];
+    private long total;
+    private long max;
+
+    void record(long nanos) {
+        long value = Math.max(1, nanos);
+        counts[index(value)]++;
+        total++;
+        max = Math.max(max, value);
+    }
+
+    void merge(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    long count() {
+        return total;
+    }
+
+    double maxMillis() {
+        return max / 1_000_000.0;
+    }
+
+    // p (0~1) 분위 값, 밀리초 (버킷 상한)
+    double percentileMillis(double p) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(p * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(upperBound(i), max) / 1_000_000.0;
+            }
+        }
+        return max / 1_000_000.0;
+    }
+
+    private static int index(long value) {
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int sub = (int) ((value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        int bucket = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (bucket == 0) {
+            return sub;
+        }
+        int magnitude = bucket + SUB_BUCKET_BITS - 1;
+        long base = 1L << magnitude;
+        long step = 1L << (magnitude - SUB_BUCKET_BITS);
+        return base + (sub + 1) * step - 1;
+    }
+}
@@ -0,0 +1,345 @@
+package com.oak.server.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 사용자 행동 시나리오 부하 테스트
+// 가상 사용자마다 시드 데이터 회원으로 로그인한 뒤, 비율(mix)에 따라 시나리오를 쉬지 않고 반복한다
+// - feed   : 피드 첫 묶음부터 nextCursor 를 따라 몇 페이지 스크롤
+// - search : 시드 데이터 단어로 검색
+// - detail : 인기 글에 쏠리게(Zipf) 골라 상세 + 댓글 첫 페이지
+// - like   : 추천 토글
+// - comment: 댓글 등록
+// 엔드포인트별 요청 수 / 에러 / 처리량 / p50 / p99 / p999 / 최대 지연을 출력하고, 경로를 주면 JSON 으로도 저장
+// 같은 seed 면 같은 순서로 요청한다 (서버 응답 속도에 따라 총 요청 수만 달라짐)
+public class ScenarioRunner {
+
+    // LoadTestDatasetSeeder.WORDS / PASSWORD 와 같은 값
+    private static final String[] SEARCH_WORDS = {
+            "참나무", "도토리", "숲", "산책", "캠핑", "등산", "사진", "여행", "커피", "맛집",
+            "개발", "자바", "스프링", "데이터베이스", "검색", "성능", "캐시", "인덱스", "서버", "배포",
+            "oak", "java", "spring", "lucene", "mysql", "cache", "index", "latency", "throughput", "benchmark"
+    };
+    private static final String PASSWORD = "loadtest";
+
+    // 상세 조회 대상: 인기순 목록 앞쪽 글 (페이지당 10건)
+    private static final int POPULAR_PAGES = 50;
+    private static final int MAX_SCROLL_PAGES = 5;
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\":\"([^\"]+)\"");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\":\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args[0].replaceAll("/+$", "");
+        int clients = Integer.parseInt(args[1]);
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[2]));
+        Map<String, Integer> mix = parseMix(args[3]);
+        long seed = Long.parseLong(args[4]);
+        int accounts = Integer.parseInt(args[5]);
+        Path output = args.length > 6 && !args[6].isBlank() ? Path.of(args[6]) : null;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        awaitReady(client, baseUrl);
+        long[] popularIds = popularPostIds(client, baseUrl);
+        if (popularIds.length == 0) {
+            throw new IllegalStateException("글이 없습니다. loadtest.seed.enabled=true 로 데이터를 먼저 생성하세요.");
+        }
+        System.out.printf("clients=%d, seconds=%d, mix=%s, seed=%d, popular posts=%d%n",
+                clients, duration.toSeconds(), mix, seed, popularIds.length);
+
+        ZipfSampler popularity = new ZipfSampler(popularIds.length, 1.1);
+        long deadline = System.nanoTime() + duration.toNanos();
+        Map<String, Endpoint> merged = new TreeMap<>();
+        long started = System.nanoTime();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<VirtualUser>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                VirtualUser user = new VirtualUser(client, baseUrl, "loadtest-user-" + (i % accounts),
+                        new SplittableRandom(seed + i), mix, popularIds, popularity);
+                futures.add(users.submit(() -> {
+                    user.run(deadline);
+                    return user;
+                }));
+            }
+            for (Future<VirtualUser> future : futures) {
+                future.get().endpoints.forEach((name, endpoint) ->
+                        merged.computeIfAbsent(name, k -> new Endpoint()).merge(endpoint));
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        report(merged, seconds);
+        if (output != null) {
+            writeJson(output, merged, seconds, clients, mix, seed);
+            System.out.println("saved: " + output.toAbsolutePath());
+        }
+    }
+
+    // 시드 데이터를 다 만들 때까지 readiness 가 200 이 아니다 (actuator 는 관리 포트라 서비스 포트의 /readyz 를 봄)
+    private static void awaitReady(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/readyz")).GET().build();
+        while (true) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 기동 중
+            }
+            System.out.println("waiting for server readiness...");
+            Thread.sleep(2_000);
+        }
+    }
+
+    private static long[] popularPostIds(HttpClient client, String baseUrl) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; page < POPULAR_PAGES; page++) {
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create(baseUrl + "/api/posts?sort=popular&page=" + page)).GET().build();
+            String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            List<Long> pageIds = extractIds(body);
+            if (pageIds.isEmpty()) {
+                break;
+            }
+            ids.addAll(pageIds);
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // 목록 응답의 글 id (작성자 등 다른 객체에 id 가 없으므로 "id" 만 모음)
+    private static List<Long> extractIds(String body) {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            String name = kv[0].trim();
+            if (!List.of("feed", "search", "detail", "like", "comment").contains(name)) {
+                throw new IllegalArgumentException("알 수 없는 시나리오: " + name);
+            }
+            mix.put(name, Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+
+    private static void report(Map<String, Endpoint> endpoints, double seconds) {
+        System.out.printf("%-10s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        Endpoint total = new Endpoint();
+        endpoints.forEach((name, endpoint) -> {
+            print(name, endpoint, seconds);
+            total.merge(endpoint);
+        });
+        print("total", total, seconds);
+    }
+
+    private static void print(String name, Endpoint endpoint, double seconds) {
+        LatencyHistogram h = endpoint.latencies;
+        System.out.printf("%-10s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name, h.count(), endpoint.errors, h.count() / seconds,
+                h.percentileMillis(0.50), h.percentileMillis(0.99), h.percentileMillis(0.999), h.maxMillis());
+    }
+
+    private static void writeJson(Path output, Map<String, Endpoint> endpoints, double seconds,
+                                  int clients, Map<String, Integer> mix, long seed) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"clients\":").append(clients)
+                .append(",\"seconds\":").append(String.format("%.1f", seconds))
+                .append(",\"seed\":").append(seed)
+                .append(",\"mix\":\"").append(mix).append("\",\"endpoints\":{");
+        boolean first = true;
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            LatencyHistogram h = entry.getValue().latencies;
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            sb.append('"').append(entry.getKey()).append("\":{")
+                    .append("\"requests\":").append(h.count())
+                    .append(",\"errors\":").append(entry.getValue().errors)
+                    .append(",\"throughput\":").append(String.format("%.1f", h.count() / seconds))
+                    .append(",\"p50\":").append(String.format("%.3f", h.percentileMillis(0.50)))
+                    .append(",\"p99\":").append(String.format("%.3f", h.percentileMillis(0.99)))
+                    .append(",\"p999\":").append(String.format("%.3f", h.percentileMillis(0.999)))
+                    .append(",\"max\":").append(String.format("%.3f", h.maxMillis()))
+                    .append('}');
+        }
+        sb.append("}}\n");
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.writeString(output, sb.toString());
+    }
+
+    private static class Endpoint {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long errors;
+
+        void merge(Endpoint other) {
+            latencies.merge(other.latencies);
+            errors += other.errors;
+        }
+    }
+
+    private static class VirtualUser {
+
+        private final HttpClient client;
+        private final String baseUrl;
+        private final String username;
+        private final SplittableRandom random;
+        private final String[] scenarios;
+        private final int[] cumulativeWeights;
+        private final long[] popularIds;
+        private final ZipfSampler popularity;
+        private final Map<String, Endpoint> endpoints = new TreeMap<>();
+        private String token;
+
+        VirtualUser(HttpClient client, String baseUrl, String username, SplittableRandom random,
+                    Map<String, Integer> mix, long[] popularIds, ZipfSampler popularity) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.username = username;
+            this.random = random;
+            this.popularIds = popularIds;
+            this.popularity = popularity;
+            this.scenarios = mix.keySet().toArray(String[]::new);
+            this.cumulativeWeights = new int[scenarios.length];
+            int sum = 0;
+            for (int i = 0; i < scenarios.length; i++) {
+                sum += mix.get(scenarios[i]);
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        void run(long deadline) {
+            String body = "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}";
+            String response = send("login", post("/api/auth/login", body, false));
+            Matcher matcher = response == null ? null : ACCESS_TOKEN.matcher(response);
+            if (matcher == null || !matcher.find()) {
+                return;
+            }
+            token = matcher.group(1);
+
+            while (System.nanoTime() < deadline) {
+                switch (pickScenario()) {
+                    case "feed" -> feed();
+                    case "search" -> send("search", get("/api/posts/search?kw="
+                            + URLEncoder.encode(SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)], StandardCharsets.UTF_8)));
+                    case "detail" -> {
+                        long id = popularPost();
+                        send("detail", get("/api/posts/" + id));
+                        send("replies", get("/api/posts/" + id + "/replies"));
+                    }
+                    case "like" -> send("like", post("/api/posts/" + popularPost() + "/like", "{}", true));
+                    case "comment" -> send("comment", post("/api/posts/" + popularPost() + "/replies",
+                            "{\"content\":\"부하 테스트 댓글 " + random.nextInt(1_000_000) + "\"}", true));
+                    default -> throw new IllegalStateException();
+                }
+            }
+        }
+
+        private void feed() {
+            int pages = 1 + random.nextInt(MAX_SCROLL_PAGES);
+            String cursor = null;
+            for (int i = 0; i < pages; i++) {
+                String path = "/api/posts/feed?size=10"
+                        + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+                String body = send("feed", get(path));
+                if (body == null) {
+                    return;
+                }
+                Matcher matcher = NEXT_CURSOR.matcher(body);
+                if (!matcher.find()) {
+                    return;
+                }
+                cursor = matcher.group(1);
+            }
+        }
+
+        private String pickScenario() {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return scenarios[i];
+                }
+            }
+            return scenarios[scenarios.length - 1];
+        }
+
+        private long popularPost() {
+            return popularIds[popularity.next(random)];
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Authorization", "Bearer " + token)
+                    .GET().build();
+        }
+
+        private HttpRequest post(String path, String json, boolean authenticated) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json));
+            if (authenticated) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder.build();
+        }
+
+        // 응답 본문 (실패하면 null, 에러로 집계)
+        private String send(String endpoint, HttpRequest request) {
+            Endpoint stats = endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() >= 400) {
+                    stats.errors++;
+                    return null;
+                }
+                stats.latencies.record(System.nanoTime() - start);
+                return response.body();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stats.errors++;
+                return null;
+            } catch (IOException e) {
+                stats.errors++;
+                return null;
+            }
+        }
+    }
+}
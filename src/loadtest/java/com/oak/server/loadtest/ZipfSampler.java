@@ -0,0 +1,29 @@
+package com.oak.server.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// 0..n-1 순위를 Zipf 분포로 뽑음 (0 이 가장 자주 나옴)
+// 누적 분포를 미리 만들어 두고 이진 탐색
+class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int r = 1; r <= n; r++) {
+            sum += Math.pow(r, -exponent);
+            cumulative[r - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int next(SplittableRandom random) {
+        int idx = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = idx >= 0 ? idx : -idx - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
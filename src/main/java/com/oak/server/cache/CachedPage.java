@@ -0,0 +1,14 @@
+package com.oak.server.cache;
+
+import com.oak.server.dto.PostSummary;
+
+import java.io.Serializable;
+import java.util.List;
+
+// 캐시에 보관하는 목록 페이지 (Page 구현체 대신 내용 + 전체 개수만)
+public record CachedPage(List<PostSummary> content, long totalElements) implements Serializable {
+
+    public boolean contains(Long postId) {
+        return content.stream().anyMatch(summary -> summary.getId().equals(postId));
+    }
+}
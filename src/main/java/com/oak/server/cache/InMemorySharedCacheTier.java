@@ -0,0 +1,87 @@
+package com.oak.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+
+// 공유 캐시 대용 (cache.shared.type=local)
+// 원격 캐시처럼 값을 바이트로 직렬화해 보관한다. 로컬 개발 / 부하 테스트에서 2단 캐시 경로를 확인하는 용도
+@Component
+@ConditionalOnProperty(name = "cache.shared.type", havingValue = "local")
+public class InMemorySharedCacheTier implements SharedCacheTier {
+
+    private record Entry(byte[] bytes, long ttlNanos) {
+    }
+
+    private final Cache<String, Entry> store = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    @Override
+    public Optional<Object> get(String key) {
+        Entry entry = store.getIfPresent(key);
+        return entry == null ? Optional.empty() : Optional.of(deserialize(entry.bytes()));
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        store.put(key, new Entry(serialize(value), ttl.toNanos()));
+    }
+
+    @Override
+    public void evict(String key) {
+        store.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        store.invalidateAll();
+    }
+
+    private static byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.oak.server.cache;
+
+import com.oak.server.event.PostBatchEvent;
+import com.oak.server.event.PostEvent;
+import com.oak.server.event.ReplyEvent;
+import com.oak.server.event.VoteEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋된 변경만 읽기 캐시에 반영 (커밋 전에 지우면 다른 요청이 옛 값을 다시 채울 수 있음)
+@Component
+@RequiredArgsConstructor
+public class PostCacheEventListener {
+
+    private final PostReadCache postReadCache;
+
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        Long id = event.getPost().getId();
+        switch (event.getType()) {
+            case CREATED -> postReadCache.evictLists(null);
+            case DELETED -> postReadCache.evictLists(id);
+            case MODIFIED -> postReadCache.evictPost(id);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostBatchEvent(PostBatchEvent event) {
+        postReadCache.evictLists(null);
+    }
+
+    // 댓글 작성/수정/삭제 (댓글 수, revision 이 바뀜)
+    @TransactionalEventListener
+    public void onReplyEvent(ReplyEvent event) {
+        postReadCache.evictPost(event.getPostId());
+    }
+
+    // 댓글 추천 수는 캐시된 값에 없지만, 댓글 목록 ETag 를 위해 글 revision 이 올라가므로 그 글의 상세/목록도 지운다
+    // (남겨 두면 캐시된 본문의 revision 이 DB 와 달라 TTL 동안 조건부 GET 이 모두 200)
+    @TransactionalEventListener
+    public void onVoteEvent(VoteEvent event) {
+        if (event.getTarget() == VoteEvent.Target.POST) {
+            postReadCache.evictPostAndRanking(event.getTargetId());
+        } else {
+            postReadCache.evictPost(event.getPostId());
+        }
+    }
+}
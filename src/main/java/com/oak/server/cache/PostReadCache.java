@@ -0,0 +1,285 @@
+package com.oak.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oak.server.dto.PostDetail;
+import com.oak.server.dto.PostSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 게시글 상세 / 목록 앞 페이지 읽기 캐시 (비로그인 GET 트래픽 대부분)
+// - 1차: 프로세스 내 Caffeine (짧은 TTL), 2차: SharedCacheTier (cache.shared.type 으로 선택, 없으면 1차만)
+// - 같은 키를 동시에 읽으면 한 요청만 DB 를 조회하고 나머지는 그 결과를 기다린다 (single-flight)
+// - 쓰기는 커밋 후(PostCacheEventListener) 해당 글의 상세와 그 글이 들어 있는 목록 페이지만 지운다
+//   (다른 인스턴스의 1차 캐시는 TTL 만큼 늦게 반영될 수 있다)
+// - 캐시에는 추천 여부/조회수가 없는 공용 값만 두고, 꺼낼 때 복사본을 돌려준다
+//   (조회수는 계속 바뀌므로 PostService 가 꺼낼 때마다 따로 읽어 채움. 캐시에 두면 버퍼 반영 뒤 TTL 동안 줄어 보임)
+@Slf4j
+@Component
+public class PostReadCache {
+
+    private static final String DETAIL = "post:";
+    private static final String LIST = "posts:";
+    private static final List<String> SORTS = List.of("latest", "popular");
+
+    private final boolean enabled;
+    private final int listPages;
+    private final Duration sharedTtl;
+    private final Cache<String, CompletableFuture<Object>> local;
+    private final SharedCacheTier shared;
+
+    // 지우기가 일어날 때마다 증가. 조회 중에 지우기가 있었으면 읽은 값을 캐시에 남기지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter sharedHits;
+    private final Counter misses;
+
+    public PostReadCache(@Value("${cache.post.enabled:true}") boolean enabled,
+                         @Value("${cache.post.list-pages:3}") int listPages,
+                         @Value("${cache.post.local.max-size:10000}") long localMaxSize,
+                         @Value("${cache.post.local.ttl:10s}") Duration localTtl,
+                         @Value("${cache.post.shared.ttl:60s}") Duration sharedTtl,
+                         ObjectProvider<SharedCacheTier> sharedCacheTier,
+                         MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.listPages = listPages;
+        this.sharedTtl = sharedTtl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.shared = sharedCacheTier.getIfAvailable();
+
+        // oak.cache.gets{cache=post,result=local_hit|shared_hit|miss}
+        this.localHits = Counter.builder("oak.cache.gets").tag("cache", "post").tag("result", "local_hit")
+                .register(meterRegistry);
+        this.sharedHits = Counter.builder("oak.cache.gets").tag("cache", "post").tag("result", "shared_hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("oak.cache.gets").tag("cache", "post").tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("oak.cache.size", local, Cache::estimatedSize).tag("cache", "post").register(meterRegistry);
+    }
+
+    // 1. 상세 조회
+    public PostDetail getDetail(Long id, Supplier<PostDetail> loader) {
+        PostDetail cached = get(DETAIL + id, () -> {
+            PostDetail detail = loader.get();
+            detail.setView(0);
+            return detail;
+        });
+        return cached.copy();
+    }
+
+    // 2. 목록 조회 (검색어 없는 앞 페이지만 캐시)
+    public boolean isCacheablePage(int page) {
+        return enabled && page >= 0 && page < listPages;
+    }
+
+    public Page<PostSummary> getPage(String sort, Pageable pageable, Supplier<Page<PostSummary>> loader) {
+        CachedPage cached = get(listKey(sort, pageable.getPageNumber()), () -> {
+            Page<PostSummary> page = loader.get();
+            page.getContent().forEach(summary -> summary.setView(0));
+            return new CachedPage(List.copyOf(page.getContent()), page.getTotalElements());
+        });
+        List<PostSummary> content = cached.content().stream().map(PostSummary::copy).toList();
+        return new PageImpl<>(content, pageable, cached.totalElements());
+    }
+
+    // 3. 지우기
+
+    // 글 내용/댓글 수가 바뀐 경우: 상세 + 그 글이 들어 있는 목록 페이지
+    public void evictPost(Long id) {
+        evict(DETAIL + id);
+        for (String sort : SORTS) {
+            evictPagesContaining(sort, id);
+        }
+    }
+
+    // 추천 수가 바뀐 경우: 위에 더해 추천순 목록 전체 (순서가 바뀔 수 있음)
+    public void evictPostAndRanking(Long id) {
+        evict(DETAIL + id);
+        evictPagesContaining("latest", id);
+        evictPages("popular");
+    }
+
+    // 글이 추가/삭제된 경우: 목록 페이지 전체 (뒤 페이지가 밀리거나 당겨짐)
+    public void evictLists(Long deletedId) {
+        if (deletedId != null) {
+            evict(DETAIL + deletedId);
+        }
+        SORTS.forEach(this::evictPages);
+    }
+
+    // 작성자 정보처럼 여러 글에 걸친 변경 (회원 탈퇴, 프로필 사진 변경) - 현재 트랜잭션 커밋 후 전체 삭제
+    public void evictAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll();
+            }
+        });
+    }
+
+    private void evictAll() {
+        generation.incrementAndGet();
+        local.invalidateAll();
+        if (shared != null) {
+            try {
+                shared.clear();
+            } catch (RuntimeException e) {
+                log.warn("공유 캐시 비우기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = local.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            // 이미 있거나 다른 요청이 읽는 중이면 그 결과를 사용
+            localHits.increment();
+            return (T) join(existing);
+        }
+
+        long startGeneration = generation.get();
+        try {
+            Object value = sharedGet(key).orElse(null);
+            if (value != null) {
+                sharedHits.increment();
+            } else {
+                misses.increment();
+                value = loader.get();
+                if (generation.get() == startGeneration) {
+                    sharedPut(key, value);
+                    // 확인과 저장 사이에 지우기가 있었으면 방금 넣은 옛 값을 다시 지운다
+                    // (지우기는 generation 을 먼저 올리므로, 저장 뒤 다시 확인하면 놓치지 않음)
+                    if (generation.get() != startGeneration) {
+                        sharedEvict(key);
+                    }
+                }
+            }
+            mine.complete(value);
+            if (generation.get() != startGeneration) {
+                local.asMap().remove(key, mine);
+            }
+            return (T) value;
+        } catch (RuntimeException e) {
+            local.asMap().remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void evictPagesContaining(String sort, Long id) {
+        for (int page = 0; page < listPages; page++) {
+            String key = listKey(sort, page);
+            if (pageContains(key, id)) {
+                evict(key);
+            }
+        }
+    }
+
+    private void evictPages(String sort) {
+        for (int page = 0; page < listPages; page++) {
+            evict(listKey(sort, page));
+        }
+    }
+
+    // 1차에 있으면 그 값으로, 없으면 2차 값으로 판단 (읽는 중인 값은 지운다)
+    private boolean pageContains(String key, Long id) {
+        CompletableFuture<Object> future = local.getIfPresent(key);
+        if (future != null) {
+            if (!future.isDone()) {
+                return true;
+            }
+            if (!future.isCompletedExceptionally() && future.join() instanceof CachedPage page && page.contains(id)) {
+                return true;
+            }
+        }
+        return sharedGet(key).map(value -> value instanceof CachedPage page && page.contains(id)).orElse(false);
+    }
+
+    private void evict(String key) {
+        generation.incrementAndGet();
+        local.invalidate(key);
+        sharedEvict(key);
+    }
+
+    private void sharedEvict(String key) {
+        if (shared == null) {
+            return;
+        }
+        try {
+            shared.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 삭제 실패: {} ({})", key, e.getMessage());
+        }
+    }
+
+    // 공유 캐시 장애는 DB 조회로 대신한다
+    private Optional<Object> sharedGet(String key) {
+        if (shared == null) {
+            return Optional.empty();
+        }
+        try {
+            return shared.get(key);
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 조회 실패: {} ({})", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void sharedPut(String key, Object value) {
+        if (shared == null || value == null) {
+            return;
+        }
+        try {
+            shared.put(key, value, sharedTtl);
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 저장 실패: {} ({})", key, e.getMessage());
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String listKey(String sort, int page) {
+        return LIST + sort + ":" + page;
+    }
+}
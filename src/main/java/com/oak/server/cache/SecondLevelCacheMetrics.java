@@ -0,0 +1,83 @@
+package com.oak.server.cache;
+
+import com.oak.server.domain.SiteUser;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+// Hibernate 2차 캐시 영역별 통계 (hibernate.generate_statistics=true 일 때만)
+// oak.hibernate.cache.gets{region, result=hit|miss}, oak.hibernate.cache.puts{region}, oak.hibernate.cache.hit.ratio{region}
+// 자연 키 캐시(username -> id)는 region 태그에 "#natural-id" 를 붙여 따로 본다
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (statistics.getCacheRegionStatistics(region) == null) {
+                continue;
+            }
+            bind(registry, region,
+                    s -> regionStats(s, region).getHitCount(),
+                    s -> regionStats(s, region).getMissCount(),
+                    s -> regionStats(s, region).getPutCount(),
+                    statistics);
+        }
+
+        String naturalIdRegion = SiteUser.class.getSimpleName() + "#natural-id";
+        bind(registry, naturalIdRegion,
+                s -> naturalIdStats(s).getCacheHitCount(),
+                s -> naturalIdStats(s).getCacheMissCount(),
+                s -> naturalIdStats(s).getCachePutCount(),
+                statistics);
+    }
+
+    private static void bind(MeterRegistry registry, String region,
+                             ToLongFunction<Statistics> hits,
+                             ToLongFunction<Statistics> misses,
+                             ToLongFunction<Statistics> puts,
+                             Statistics statistics) {
+        FunctionCounter.builder("oak.hibernate.cache.gets", statistics, s -> hits.applyAsLong(s))
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("oak.hibernate.cache.gets", statistics, s -> misses.applyAsLong(s))
+                .tags("region", region, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("oak.hibernate.cache.puts", statistics, s -> puts.applyAsLong(s))
+                .tag("region", region)
+                .register(registry);
+        Gauge.builder("oak.hibernate.cache.hit.ratio", statistics, s -> {
+                    long hit = hits.applyAsLong(s);
+                    long total = hit + misses.applyAsLong(s);
+                    return total == 0 ? Double.NaN : (double) hit / total;
+                })
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static CacheRegionStatistics regionStats(Statistics statistics, String region) {
+        return statistics.getCacheRegionStatistics(region);
+    }
+
+    private static NaturalIdStatistics naturalIdStats(Statistics statistics) {
+        return statistics.getNaturalIdStatistics(SiteUser.class.getName());
+    }
+}
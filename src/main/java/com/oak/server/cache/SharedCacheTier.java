@@ -0,0 +1,18 @@
+package com.oak.server.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 여러 서버 인스턴스가 함께 쓰는 2차 캐시 (Redis 등)
+// 값은 Serializable 읽기 모델이며, 구현체는 저장 시 직렬화해 호출자와 객체를 공유하지 않는다
+public interface SharedCacheTier {
+
+    Optional<Object> get(String key);
+
+    void put(String key, Object value, Duration ttl);
+
+    void evict(String key);
+
+    // 이 캐시의 모든 항목 삭제 (키 접두어 단위 삭제 등)
+    void clear();
+}
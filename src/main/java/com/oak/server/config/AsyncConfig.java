@@ -0,0 +1,11 @@
+package com.oak.server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async 작업은 Boot 의 applicationTaskExecutor 를 사용
+// (virtual 프로필에서는 spring.threads.virtual.enabled=true 로 가상 스레드 실행기가 된다)
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
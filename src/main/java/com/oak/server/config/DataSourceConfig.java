@@ -0,0 +1,103 @@
+package com.oak.server.config;
+
+import com.oak.server.datasource.ReadYourWrites;
+import com.oak.server.datasource.ReplicaPool;
+import com.oak.server.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 주 DB + 읽기 복제본 라우팅 (datasource.routing.enabled=true 일 때만, 기본은 Spring Boot 단일 DataSource)
+// - 주 DB: spring.datasource.* / spring.datasource.hikari.*
+// - 복제본: datasource.replicas (URL 목록) / datasource.replica.* / datasource.replica.hikari.*
+// 풀마다 hikaricp.connections.*{pool=primary|replica-N} 지표를 남긴다
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replicas}") List<String> replicaUrls,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+            @Value("${datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+            @Value("${datasource.replica.lag-query:}") String lagQuery,
+            @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+            @Value("${datasource.sticky-window:5s}") Duration stickyWindow,
+            @Value("${datasource.sticky-max-users:100000}") long stickyMaxUsers) {
+
+        Binder binder = Binder.get(environment);
+        String driver = environment.getProperty("spring.datasource.driver-class-name");
+
+        HikariDataSource primary = pool(binder, "spring.datasource.hikari", "primary", meterRegistry,
+                environment.getRequiredProperty("spring.datasource.url"),
+                environment.getProperty("spring.datasource.username"),
+                environment.getProperty("spring.datasource.password"), driver);
+
+        List<ReplicaPool> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = pool(binder, "datasource.replica.hikari", name, meterRegistry,
+                    url.trim(), replicaUsername, replicaPassword, driver);
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 뜨도록 (점검에서 빠짐)
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaPool(name, replica, lagQuery, maxLagSeconds));
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas,
+                new ReadYourWrites(stickyWindow, stickyMaxUsers), meterRegistry);
+    }
+
+    // JPA / JdbcTemplate 이 쓰는 DataSource
+    // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 꺼내 readOnly 여부를 보고 라우팅되도록 지연 프록시로 감싼다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // 트랜잭션이 끝날 때마다 커넥션을 반납해야 다음 트랜잭션이 다시 라우팅된다
+    // (open-in-view 가 요청 내내 첫 커넥션을 잡고 있으면 쓰기 뒤의 읽기도 주 DB, 읽기 뒤의 쓰기는 복제본으로 간다)
+    @Bean
+    public HibernatePropertiesCustomizer routingConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource pool(Binder binder, String prefix, String name, MeterRegistry meterRegistry,
+                                         String url, String username, String password, String driver) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        if (driver != null) {
+            dataSource.setDriverClassName(driver);
+        }
+        binder.bind(prefix, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -3,22 +3,52 @@ package com.oak.server.controller;
 import com.oak.server.domain.Post;
 import com.oak.server.domain.Reply;
 import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.CursorSlice;
+import com.oak.server.dto.PostBatchItem;
+import com.oak.server.dto.PostDetail;
+import com.oak.server.dto.PostSummary;
 import com.oak.server.dto.PostCreateRequest;
 import com.oak.server.dto.PostModifyRequest;
 import com.oak.server.dto.ReplyRequest;
+import com.oak.server.dto.ReplyResponse;
+import com.oak.server.live.LiveFeedBroadcaster;
+import com.oak.server.search.PostSearchHit;
 import com.oak.server.service.PostService;
 import com.oak.server.service.ReplyService;
 import com.oak.server.service.UserService;
+import com.oak.server.storage.FileStorageService;
+import com.oak.server.storage.StoredFile;
+import com.oak.server.trending.TrendingService;
+import com.oak.server.web.ConditionalGet;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 @RequiredArgsConstructor
 @RestController
@@ -28,20 +58,96 @@ public class BoardApiController {
     private final PostService postService;
     private final UserService userService;
     private final ReplyService replyService;
+    private final FileStorageService fileStorageService;
+    private final TrendingService trendingService;
+    private final LiveFeedBroadcaster liveFeedBroadcaster;
+    private final JsonMapper jsonMapper;
 
-    // 1. 게시글 목록 조회 API
+    @Value("${post.batch.max-items:10000}")
+    private int batchMaxItems;
+
+    // 1. 게시글 목록 조회 API (변경이 없으면 304)
+    @ConditionalGet(PostListVersionProvider.class)
     @GetMapping("")
-    public Page<Post> list(@RequestParam(value = "page", defaultValue = "0") int page,
-                           @RequestParam(value = "kw", defaultValue = "") String kw) {
-        return this.postService.getList(page, kw);
+    public Page<PostSummary> list(@RequestParam(value = "page", defaultValue = "0") int page,
+                                  @RequestParam(value = "kw", defaultValue = "") String kw,
+                                  @RequestParam(value = "sort", defaultValue = "latest") String sort,
+                                  Principal principal) {
+        // 검색 결과는 검색 엔진의 관련도 순으로만 페이징되므로 추천순과 함께 쓸 수 없음
+        if (StringUtils.hasText(kw) && "popular".equals(sort)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어가 있으면 추천순으로 정렬할 수 없습니다.");
+        }
+        return this.postService.getSummaryList(page, kw, sort, usernameOf(principal));
+    }
+
+    // 1-1. 게시글 검색 API (관련도 순 + 하이라이트)
+    @GetMapping("/search")
+    public Page<PostSearchHit> search(@RequestParam(value = "page", defaultValue = "0") int page,
+                                      @RequestParam(value = "kw", defaultValue = "") String kw) {
+        return this.postService.search(page, kw);
+    }
+
+    // 1-2. 게시글 피드 조회 API (무한 스크롤용 커서 페이징)
+    @GetMapping("/feed")
+    public CursorSlice<PostSummary> feed(@RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "size", defaultValue = "10") int size,
+                                         Principal principal) {
+        if (size < 1 || size > 50) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~50 사이여야 합니다.");
+        }
+        try {
+            return this.postService.getFeed(cursor, size, usernameOf(principal));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // 1-3. 인기글 API (조회/추천/댓글 점수를 시간에 따라 감쇠, 미리 계산해 둔 순위를 그대로 반환)
+    @GetMapping("/trending")
+    public List<PostSummary> trending(@RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (limit < 1 || limit > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit는 1~100 사이여야 합니다.");
+        }
+        return this.trendingService.getTrending(limit);
+    }
+
+    // 1-4. 실시간 피드 (SSE: post-created / reply-created / vote-changed / resync)
+    // 목록을 주기적으로 다시 읽는 대신 연결 하나로 변경을 받는다. 끊기면 브라우저가 Last-Event-ID 로 이어 받음
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long last = null;
+        if (lastEventId != null && lastEventId.matches("\\d{1,18}")) {
+            last = Long.parseLong(lastEventId);
+        }
+        return this.liveFeedBroadcaster.subscribe(last);
     }
 
-    // 2. 게시글 상세 조회 API
+    // 2. 게시글 상세 조회 API (변경이 없으면 304, 304 때 조회수는 PostDetailVersionProvider 가 올림)
+    @ConditionalGet(PostDetailVersionProvider.class)
     @GetMapping("/{id}")
-    public Post getPost(@PathVariable Long id) {
-        Post post = this.postService.findById(id);
-        this.postService.increaseView(post);
-        return post;
+    public PostDetail getPost(@PathVariable Long id, Principal principal) {
+        PostDetail detail = this.postService.getDetail(id, usernameOf(principal));
+
+        this.postService.increaseView(id);
+        detail.setView(detail.getView() + 1); // 이번 조회 포함
+        return detail;
+    }
+
+    // 2-1. 댓글 목록 API (커서 페이징, 오래된 순)
+    @ConditionalGet(ReplyThreadVersionProvider.class)
+    @GetMapping("/{id}/replies")
+    public CursorSlice<ReplyResponse> replies(@PathVariable Long id,
+                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "size", defaultValue = "20") int size,
+                                              Principal principal) {
+        if (size < 1 || size > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~100 사이여야 합니다.");
+        }
+        try {
+            return this.replyService.getReplies(id, cursor, size, usernameOf(principal));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     // 3. 게시글 등록 API
@@ -50,15 +156,92 @@ public class BoardApiController {
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam(value = "file", required = false) MultipartFile file,
-            Principal principal) throws IOException {
+            @AuthenticationPrincipal UserDetails principal) throws IOException {
 
-        SiteUser author = this.userService.getUser(principal.getName());
+        SiteUser author = this.userService.getUser(principal);
 
-        this.postService.create(title, content, author, file);
+        // 파일은 트랜잭션 밖에서 먼저 저장 (디스크 쓰기 동안 DB 커넥션을 잡지 않음), 글 저장이 실패하면 삭제 예약
+        StoredFile storedFile = this.fileStorageService.store(file);
+        try {
+            this.postService.create(title, content, author, storedFile);
+        } catch (RuntimeException e) {
+            this.fileStorageService.discard(storedFile);
+            throw e;
+        }
 
         return ResponseEntity.ok("글 작성 성공");
     }
 
+    // 3-1. 게시글 일괄 등록 API (이전 게시판 이관)
+    // 본문(JSON 배열 또는 NDJSON)을 통째로 올리지 않고 읽는 대로 chunkSize 건씩 커밋하며,
+    // 커밋할 때마다 진행 상황을 NDJSON 한 줄로 흘려보낸다
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> batch(
+            HttpServletRequest request,
+            @RequestParam(value = "chunkSize", defaultValue = "${post.batch.chunk-size:500}") int chunkSize,
+            @AuthenticationPrincipal UserDetails principal) {
+
+        if (chunkSize < 1 || chunkSize > 5000) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "chunkSize는 1~5000 사이여야 합니다.");
+        }
+
+        SiteUser author = this.userService.getUser(principal);
+        StreamingResponseBody body = out -> {
+            // 최상위 배열이면 원소를 하나씩, NDJSON 이면 줄마다 하나씩 읽는다
+            try (MappingIterator<PostBatchItem> items = this.jsonMapper.readerFor(PostBatchItem.class)
+                    .readValues(request.getInputStream())) {
+                this.postService.writeAll(() -> validated(items), author, chunkSize, progress -> {
+                    try {
+                        out.write(progress.toJsonLine().getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (IllegalArgumentException | JacksonException e) {
+                // 잘못된 항목이 든 묶음부터는 커밋하지 않고, 앞서 커밋된 묶음은 그대로 둔다
+                String message = e instanceof IllegalArgumentException && e.getMessage() != null
+                        ? e.getMessage() : "요청 본문을 읽을 수 없습니다.";
+                writeErrorLine(out, message);
+            } catch (RuntimeException e) {
+                // 이미 커밋된 묶음은 남아 있으므로 마지막 진행 줄 다음에 실패를 알림
+                writeErrorLine(out, "일괄 등록 중 오류가 발생했습니다.");
+                throw e;
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // 오류 NDJSON 한 줄 (메시지에 따옴표/역슬래시/줄바꿈이 있어도 한 줄의 올바른 JSON 이 되도록 직렬화)
+    private void writeErrorLine(OutputStream out, String message) throws IOException {
+        out.write(this.jsonMapper.writeValueAsBytes(Map.of("error", message)));
+        out.write('\n');
+    }
+
+    // 읽는 대로 건수 상한과 제목을 검사한다 (전체를 미리 들고 있지 않으므로)
+    private Iterator<PostBatchItem> validated(Iterator<PostBatchItem> items) {
+        return new Iterator<>() {
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public PostBatchItem next() {
+                PostBatchItem item = items.next();
+                if (++count > batchMaxItems) {
+                    throw new IllegalArgumentException("한 번에 " + batchMaxItems + "건까지 등록할 수 있습니다.");
+                }
+                if (item.getTitle() == null || item.getTitle().isBlank()) {
+                    throw new IllegalArgumentException(count + "번째 항목에 제목이 없습니다.");
+                }
+                return item;
+            }
+        };
+    }
+
     // 4. 게시글 수정 API
     @PutMapping("/{id}")
     public ResponseEntity<?> modify(@PathVariable Long id,
@@ -74,8 +257,14 @@ public class BoardApiController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "수정 권한이 없습니다.");
         }
 
-        // 서비스 호출 시 isImageDeleted 전달
-        this.postService.modify(post, title, content, file, isImageDeleted);
+        // 서비스 호출 시 isImageDeleted 전달 (수정이 실패하면 새 파일은 삭제 예약)
+        StoredFile storedFile = this.fileStorageService.store(file);
+        try {
+            this.postService.modify(post, title, content, storedFile, isImageDeleted);
+        } catch (RuntimeException e) {
+            this.fileStorageService.discard(storedFile);
+            throw e;
+        }
 
         return ResponseEntity.ok("글 수정 성공");
     }
@@ -93,11 +282,15 @@ public class BoardApiController {
 
     // 6. 게시글 추천 API
     @PostMapping("/{id}/like")
-    public ResponseEntity<?> postVote(@PathVariable Long id, Principal principal) {
-        Post post = this.postService.findById(id);
-        SiteUser siteUser = this.userService.getUser(principal.getName());
-
-        this.postService.vote(post, siteUser);
+    public ResponseEntity<?> postVote(@PathVariable Long id, @AuthenticationPrincipal UserDetails principal) {
+        SiteUser siteUser = this.userService.getUser(principal);
+        try {
+            this.postService.vote(id, siteUser);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 처리 중인 추천입니다.");
+        }
         return ResponseEntity.ok("추천 처리 완료");
     }
 
@@ -105,8 +298,8 @@ public class BoardApiController {
     @PostMapping("/{id}/replies")
     public ResponseEntity<?> createReply(@PathVariable Long id,
                                          @RequestBody ReplyRequest request,
-                                         Principal principal) {
-        SiteUser siteUser = this.userService.getUser(principal.getName());
+                                         @AuthenticationPrincipal UserDetails principal) {
+        SiteUser siteUser = this.userService.getUser(principal);
         this.replyService.write(id, request.getContent(), siteUser);
         return ResponseEntity.ok("댓글 작성 성공");
     }
@@ -137,23 +330,35 @@ public class BoardApiController {
 
     // 10. 댓글 추천 API
     @PostMapping("/replies/{replyId}/vote")
-    public ResponseEntity<?> replyVote(@PathVariable Long replyId, Principal principal) {
-        Reply reply = this.replyService.findById(replyId);
-        SiteUser siteUser = this.userService.getUser(principal.getName());
-
-        this.replyService.vote(reply, siteUser);
+    public ResponseEntity<?> replyVote(@PathVariable Long replyId, @AuthenticationPrincipal UserDetails principal) {
+        SiteUser siteUser = this.userService.getUser(principal);
+        try {
+            this.replyService.vote(replyId, siteUser);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 처리 중인 추천입니다.");
+        }
         return ResponseEntity.ok("댓글 추천 완료");
     }
 
     // 테스트용 데이터 생성기
     @GetMapping("/test/generate")
-    public ResponseEntity<?> generateTestData(Principal principal) {
-        SiteUser user = this.userService.getUser(principal.getName());
-        for (int i = 1; i <= 50; i++) {
-            String title = String.format("테스트 게시글 데이터입니다. [%03d]", i);
-            String content = "무한 스크롤 테스트를 위한 내용입니다. 🌲";
-            this.postService.write(title, content, user);
-        }
+    public ResponseEntity<?> generateTestData(@AuthenticationPrincipal UserDetails principal) {
+        SiteUser user = this.userService.getUser(principal);
+        List<PostBatchItem> items = IntStream.rangeClosed(1, 50).mapToObj(i -> {
+            PostBatchItem item = new PostBatchItem();
+            item.setTitle(String.format("테스트 게시글 데이터입니다. [%03d]", i));
+            item.setContent("무한 스크롤 테스트를 위한 내용입니다. 🌲");
+            return item;
+        }).toList();
+        this.postService.writeAll(items, user, items.size(), progress -> {
+        });
         return ResponseEntity.ok("테스트 데이터 생성 완료!");
     }
+
+    // 비로그인 GET 요청은 principal 이 없다
+    private String usernameOf(Principal principal) {
+        return principal == null ? null : principal.getName();
+    }
 }
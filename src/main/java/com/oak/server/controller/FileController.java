@@ -0,0 +1,187 @@
+package com.oak.server.controller;
+
+import com.oak.server.storage.StoragePort;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+// 업로드 파일 서빙 (/files/{key})
+// - 파일 이름이 내용 해시(예전 파일은 UUID)라 바뀌지 않으므로 강한 ETag + 1년 immutable 캐시
+// - Range 요청(206), 사전 압축본(.br/.gz) 지원
+// - Tomcat sendfile 이 가능하면 본문 전송을 커넥터(poller)에 넘겨 워커 스레드를 바로 돌려준다
+@Controller
+public class FileController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final StoragePort storagePort;
+    private final long sendfileMinSize;
+
+    public FileController(StoragePort storagePort,
+                          @Value("${file.serve.sendfile-min-size:49152}") long sendfileMinSize) {
+        this.storagePort = storagePort;
+        this.sendfileMinSize = sendfileMinSize;
+    }
+
+    @GetMapping("/files/{key}")
+    public void serve(@PathVariable String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Optional<Path> localPath;
+        try {
+            localPath = storagePort.localPath(key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (localPath.isEmpty()) {
+            serveFromStorage(key, request, response);
+            return;
+        }
+
+        Path file = localPath.get();
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 1. 사전 압축본 선택
+        Path body = file;
+        String encoding = null;
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null) {
+            if (acceptEncoding.contains("br") && Files.isRegularFile(sibling(file, ".br"))) {
+                body = sibling(file, ".br");
+                encoding = "br";
+            } else if (acceptEncoding.contains("gzip") && Files.isRegularFile(sibling(file, ".gz"))) {
+                body = sibling(file, ".gz");
+                encoding = "gzip";
+            }
+        }
+
+        // 2. 캐시 헤더
+        String etag = encoding == null ? "\"" + key + "\"" : "\"" + key + "-" + encoding + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentType(contentTypeOf(key));
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(etag))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 3. Range (단일 구간만 처리, 여러 구간이면 전체 전송)
+        long length = Files.size(body);
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        // 4. 본문 전송: sendfile 위임 또는 FileChannel.transferTo
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && count >= sendfileMinSize) {
+            request.setAttribute(SENDFILE_FILENAME, body.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(body, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // 로컬 경로가 없는 저장소(오브젝트 스토리지 대용)는 스트림으로 전체 전송
+    private void serveFromStorage(String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (!storagePort.exists(key)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String etag = "\"" + key + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentType(contentTypeOf(key));
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(etag))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        try (InputStream in = storagePort.open(key)) {
+            StreamUtils.copy(in, response.getOutputStream());
+        }
+    }
+
+    private static Path sibling(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    private static String contentTypeOf(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+}
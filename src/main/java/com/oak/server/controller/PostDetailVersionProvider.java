@@ -0,0 +1,43 @@
+package com.oak.server.controller;
+
+import com.oak.server.dto.PostDetail;
+import com.oak.server.service.PostService;
+import com.oak.server.web.ResourceVersion;
+import com.oak.server.web.ResourceVersionProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// GET /api/posts/{id} 버전: 글의 revision + 사용자 (추천 여부가 사용자마다 다름)
+// 조회수는 포함하지 않는다 (304 응답에는 이전 조회수가 남음, 조회 자체는 304 여도 센다)
+// 본문은 PostReadCache 에서 나오므로 200 응답의 ETag 는 본문에 실린 revision 으로 만든다
+@Component
+@RequiredArgsConstructor
+public class PostDetailVersionProvider implements ResourceVersionProvider {
+
+    private final PostRevisionVersions postRevisionVersions;
+    private final PostService postService;
+
+    @Override
+    public ResourceVersion currentVersion(HttpServletRequest request) {
+        Long id = PostRevisionVersions.postId(request);
+        return id == null ? null : postRevisionVersions.current(id, "", request);
+    }
+
+    @Override
+    public ResourceVersion versionOf(HttpServletRequest request, Object body) {
+        if (!(body instanceof PostDetail detail)) {
+            return null;
+        }
+        return PostRevisionVersions.of(detail.getId(), detail.getRevision(), detail.getRevisedAt(), "", request);
+    }
+
+    // 304 도 한 번의 조회 (브라우저가 자동으로 재검증하므로 세지 않으면 재방문 조회수가 빠짐)
+    @Override
+    public void notModified(HttpServletRequest request) {
+        Long id = PostRevisionVersions.postId(request);
+        if (id != null) {
+            postService.increaseView(id);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.oak.server.controller;
+
+import com.oak.server.dto.PostSummary;
+import com.oak.server.repository.BoardStatsRepository;
+import com.oak.server.repository.PostRepository;
+import com.oak.server.service.PostService;
+import com.oak.server.web.ResourceVersion;
+import com.oak.server.web.ResourceVersionProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+
+// GET /api/posts 버전: 해당 페이지에 들어갈 글들의 (id, revision) + 전체 글 수(페이지 수) + 사용자
+// 목록과 같은 정렬/페이지로 id, revision 두 컬럼만 인덱스 순서대로 읽는다 (작성자 조인, 댓글 수 없음)
+// 전체 글 수는 COUNT(*) 대신 작성/삭제 때 함께 증감하는 board_stats 한 행을 PK 로 읽는다
+// (값이 어긋나면 본문의 totalElements 와 달라 200 으로 응답할 뿐 잘못된 304 는 나가지 않음)
+// 앞 페이지 본문은 PostReadCache 에서 나오므로 200 응답의 ETag 는 본문에 실린 값으로 만든다
+// 검색어가 있으면 검색 엔진 결과라 버전을 알 수 없으므로 조건부 처리하지 않음
+@Component
+@RequiredArgsConstructor
+public class PostListVersionProvider implements ResourceVersionProvider {
+
+    private final PostRepository postRepository;
+    private final BoardStatsRepository boardStatsRepository;
+
+    @Override
+    public ResourceVersion currentVersion(HttpServletRequest request) {
+        Integer page = page(request);
+        if (page == null) {
+            return null;
+        }
+        String sort = sort(request);
+        Slice<PostRepository.Revision> revisions = postRepository.findRevisions(PostService.listPageable(page, sort));
+        long totalElements = boardStatsRepository.findPostCount().orElse(-1L);
+        StringBuilder key = key(sort, page, totalElements, request);
+        revisions.forEach(revision -> key.append('|').append(revision.getId()).append('.').append(revision.getRevision()));
+        return etag(key);
+    }
+
+    @Override
+    public ResourceVersion versionOf(HttpServletRequest request, Object body) {
+        Integer page = page(request);
+        if (page == null || !(body instanceof Page<?> summaries)) {
+            return null;
+        }
+        StringBuilder key = key(sort(request), page, summaries.getTotalElements(), request);
+        for (Object item : summaries.getContent()) {
+            if (!(item instanceof PostSummary summary)) {
+                return null;
+            }
+            key.append('|').append(summary.getId()).append('.').append(summary.getRevision());
+        }
+        return etag(key);
+    }
+
+    // 조건부 처리할 페이지 번호 (검색어가 있거나 잘못된 값이면 null)
+    private static Integer page(HttpServletRequest request) {
+        if (StringUtils.hasText(request.getParameter("kw"))) {
+            return null;
+        }
+        try {
+            String value = request.getParameter("page");
+            int page = value == null ? 0 : Integer.parseInt(value);
+            return page < 0 ? null : page;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String sort(HttpServletRequest request) {
+        return "popular".equals(request.getParameter("sort")) ? "popular" : "latest";
+    }
+
+    private static StringBuilder key(String sort, int page, long totalElements, HttpServletRequest request) {
+        return new StringBuilder()
+                .append(sort).append(':').append(page).append(':').append(totalElements).append(':')
+                .append(request.getUserPrincipal() == null ? "" : request.getUserPrincipal().getName());
+    }
+
+    private static ResourceVersion etag(StringBuilder key) {
+        return ResourceVersion.of("W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"");
+    }
+}
@@ -0,0 +1,56 @@
+package com.oak.server.controller;
+
+import com.oak.server.repository.PostRepository;
+import com.oak.server.web.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+// 글 revision 기반 조건부 GET 버전 (상세 / 댓글 목록 공용)
+// ETag = 글 id + revision + 자원별 구분값(커서 등) + 사용자, Last-Modified = revision 이 마지막으로 바뀐 시각
+@Component
+@RequiredArgsConstructor
+public class PostRevisionVersions {
+
+    private final PostRepository postRepository;
+
+    // DB 의 현재 revision 으로 (없는 글이면 null)
+    public ResourceVersion current(Long id, String variant, HttpServletRequest request) {
+        return postRepository.findRevisionById(id)
+                .map(revision -> of(id, revision.getRevision(),
+                        revision.getRevisedAt() != null ? revision.getRevisedAt()
+                                : revision.getModifyDate() != null ? revision.getModifyDate()
+                                : revision.getCreateDate(),
+                        variant, request))
+                .orElse(null);
+    }
+
+    // 이미 읽은 revision 으로 (캐시된 본문에 실린 값)
+    public static ResourceVersion of(Long id, long revision, LocalDateTime revisedAt, String variant,
+                                     HttpServletRequest request) {
+        String user = request.getUserPrincipal() == null ? "" : request.getUserPrincipal().getName();
+        String key = id + ":" + revision + ":" + variant + ":" + user;
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+        return new ResourceVersion(etag,
+                revisedAt == null ? null : revisedAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    // 경로의 {id} (숫자가 아니면 null)
+    public static Long postId(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        try {
+            return Long.valueOf(variables.get("id"));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.oak.server.controller;
+
+import com.oak.server.web.ResourceVersion;
+import com.oak.server.web.ResourceVersionProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// GET /api/posts/{id}/replies 버전: 댓글 작성/수정/삭제/추천은 글의 revision 을 올리므로 글 revision + 커서 + 사용자
+// 댓글 목록은 캐시하지 않고 매번 DB 에서 읽으므로 DB 버전을 그대로 ETag 로 쓴다
+@Component
+@RequiredArgsConstructor
+public class ReplyThreadVersionProvider implements ResourceVersionProvider {
+
+    private final PostRevisionVersions postRevisionVersions;
+
+    @Override
+    public ResourceVersion currentVersion(HttpServletRequest request) {
+        Long id = PostRevisionVersions.postId(request);
+        if (id == null) {
+            return null;
+        }
+        String variant = request.getParameter("cursor") + ":" + request.getParameter("size");
+        return postRevisionVersions.current(id, variant, request);
+    }
+}
@@ -1,6 +1,7 @@
 package com.oak.server.controller;
 
 import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.PostBatchItem;
 import com.oak.server.service.PostService;
 import com.oak.server.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 @Controller
 @RequiredArgsConstructor
 public class TestController {
@@ -26,13 +30,15 @@ public class TestController {
             author = userService.create("testuser", "test@test.com", "1234");
         }
 
-        // 2. 글 생성 (작성자 객체 author를 같이 넘겨줍니다)
-        for (int i = 1; i <= 120; i++) {
-            String subject = String.format("테스트 데이터입니다. [%03d]", i);
-            String content = "테스트";
-
-            postService.write(subject, content, author);
-        }
+        // 2. 글 생성 (작성자 객체 author를 같이 넘겨줍니다, 한 트랜잭션에 배치 INSERT)
+        List<PostBatchItem> items = IntStream.rangeClosed(1, 120).mapToObj(i -> {
+            PostBatchItem item = new PostBatchItem();
+            item.setTitle(String.format("테스트 데이터입니다. [%03d]", i));
+            item.setContent("테스트");
+            return item;
+        }).toList();
+        postService.writeAll(items, author, items.size(), progress -> {
+        });
 
         return "데이터 120개 생성 완료! (작성자: testuser)";
     }
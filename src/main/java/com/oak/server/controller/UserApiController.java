@@ -1,24 +1,27 @@
 package com.oak.server.controller;
 
-import com.oak.server.domain.Post;
-import com.oak.server.domain.Reply;
 import com.oak.server.domain.SiteUser;
 import com.oak.server.dto.*;
 import com.oak.server.jwt.JwtTokenProvider;
+import com.oak.server.password.PasswordHashingBusyException;
 import com.oak.server.service.PostService;
 import com.oak.server.service.ReplyService;
 import com.oak.server.service.UserService;
+import com.oak.server.storage.FileStorageService;
+import com.oak.server.storage.StoredFile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
 import java.io.IOException;
 import java.security.Principal;
 
@@ -32,6 +35,7 @@ public class UserApiController {
     private final ReplyService replyService;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final FileStorageService fileStorageService;
 
     // 1. 회원가입 API (주소: /api/auth/signup)
     @PostMapping("/auth/signup")
@@ -46,6 +50,8 @@ public class UserApiController {
             return ResponseEntity.ok("회원가입 성공");
         } catch (DataIntegrityViolationException e) {
             return ResponseEntity.badRequest().body("이미 등록된 사용자입니다.");
+        } catch (PasswordHashingBusyException e) {
+            throw e; // 429
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -68,6 +74,12 @@ public class UserApiController {
 
         } catch (BadCredentialsException e) {
             return ResponseEntity.status(401).body("아이디 또는 비밀번호가 틀렸습니다.");
+        } catch (InternalAuthenticationServiceException e) {
+            // 해시 풀이 밀려 있으면 AuthenticationManager 가 감싸서 던지므로 꺼내서 429 로
+            if (e.getCause() instanceof PasswordHashingBusyException busy) {
+                throw busy;
+            }
+            throw e;
         }
     }
 
@@ -79,7 +91,15 @@ public class UserApiController {
             Principal principal) {
         try {
             // 서비스 호출 시 isImageDeleted 전달
-            SiteUser user = userService.updateProfileImage(principal.getName(), file, isImageDeleted);
+            // 파일은 트랜잭션 밖에서 먼저 저장 (회원 조회/저장이 실패하면 삭제 예약)
+            StoredFile storedFile = fileStorageService.store(file);
+            SiteUser user;
+            try {
+                user = userService.updateProfileImage(principal.getName(), storedFile, isImageDeleted);
+            } catch (RuntimeException e) {
+                fileStorageService.discard(storedFile);
+                throw e;
+            }
             return ResponseEntity.ok(user.getProfileImg());
         } catch (IOException e) {
             return ResponseEntity.badRequest().body("이미지 업로드 실패");
@@ -94,25 +114,58 @@ public class UserApiController {
         return ResponseEntity.ok(user);
     }
 
-    // 5. 내가 쓴 글 API
+    // 4-1. 내 활동 요약 API (글/댓글/추천한 글 수, 목록을 읽지 않고 카운터만)
+    @GetMapping("/users/me/stats")
+    public UserStats getMyStats(Principal principal) {
+        return userService.getStats(principal.getName());
+    }
+
+    // 5. 내가 쓴 글 API (커서 페이징, 최신순)
     @GetMapping("/users/me/posts")
-    public ResponseEntity<List<Post>> getMyPosts(Principal principal) {
+    public CursorSlice<PostSummary> getMyPosts(@RequestParam(value = "cursor", required = false) String cursor,
+                                               @RequestParam(value = "size", defaultValue = "20") int size,
+                                               Principal principal) {
+        checkSize(size);
         SiteUser user = userService.getUser(principal.getName());
-        return ResponseEntity.ok(postService.getMyPosts(user));
+        try {
+            return postService.getMyPosts(user, cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
-    // 6. 내가 쓴 댓글 API
+    // 6. 내가 쓴 댓글 API (커서 페이징, 최신순)
     @GetMapping("/users/me/replies")
-    public ResponseEntity<List<Reply>> getMyReplies(Principal principal) {
+    public CursorSlice<MyReply> getMyReplies(@RequestParam(value = "cursor", required = false) String cursor,
+                                             @RequestParam(value = "size", defaultValue = "20") int size,
+                                             Principal principal) {
+        checkSize(size);
         SiteUser user = userService.getUser(principal.getName());
-        return ResponseEntity.ok(replyService.getMyReplies(user));
+        try {
+            return replyService.getMyReplies(user, cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
-    // 7. 내가 좋아요 한 글 API
+    // 7. 내가 좋아요 한 글 API (커서 페이징, 최근 추천순)
     @GetMapping("/users/me/likes")
-    public ResponseEntity<List<Post>> getMyLikes(Principal principal) {
+    public CursorSlice<LikedPost> getMyLikes(@RequestParam(value = "cursor", required = false) String cursor,
+                                             @RequestParam(value = "size", defaultValue = "20") int size,
+                                             Principal principal) {
+        checkSize(size);
         SiteUser user = userService.getUser(principal.getName());
-        return ResponseEntity.ok(postService.getMyLikedPosts(user));
+        try {
+            return postService.getMyLikedPosts(user, cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static void checkSize(int size) {
+        if (size < 1 || size > 50) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~50 사이여야 합니다.");
+        }
     }
 
     // 8. 비밀번호 변경 API
@@ -138,8 +191,9 @@ public class UserApiController {
     @DeleteMapping("/users/me")
     public ResponseEntity<?> withdraw(@RequestBody UserWithdrawRequest request, Principal principal) {
         try {
+            // 작성한 글/댓글은 백그라운드에서 정리 (202)
             userService.delete(principal.getName(), request.getPassword());
-            return ResponseEntity.ok("회원 탈퇴가 완료되었습니다.");
+            return ResponseEntity.accepted().body("회원 탈퇴가 완료되었습니다. 작성한 글과 댓글은 잠시 후 모두 삭제됩니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
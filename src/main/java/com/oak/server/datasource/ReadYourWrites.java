@@ -0,0 +1,47 @@
+package com.oak.server.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+// 자기 쓰기 직후 읽기 보장 (read-your-writes)
+// 쓰기 트랜잭션을 커밋한 사용자는 sticky-window 동안 읽기 전용 트랜잭션도 주 DB 에서 읽는다
+// (복제 지연 때문에 방금 쓴 글/댓글/추천이 안 보이는 일을 막음). 다른 사용자는 그대로 복제본
+public class ReadYourWrites {
+
+    // username -> 마지막 쓰기 커밋 (항목 수명이 곧 sticky 구간)
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window, long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    void markWrite() {
+        String username = currentUsername();
+        if (username != null) {
+            recentWriters.put(username, Boolean.TRUE);
+        }
+    }
+
+    boolean isSticky() {
+        String username = currentUsername();
+        return username != null && recentWriters.getIfPresent(username) != null;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // 비로그인 요청(회원 가입 등)의 쓰기로 모든 비로그인 읽기가 주 DB 로 몰리지 않도록 제외
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,20 @@
+package com.oak.server.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 복제본 주기 점검 (연결 + 지연). 빠진 복제본도 여기서 정상으로 확인되면 다시 들어간다
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReplicaHealthChecker {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    @Scheduled(fixedDelayString = "${datasource.replica.health-interval-ms:5000}")
+    public void check() {
+        routingDataSource.getReplicas().forEach(ReplicaPool::check);
+    }
+}
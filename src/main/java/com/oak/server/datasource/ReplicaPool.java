@@ -0,0 +1,75 @@
+package com.oak.server.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 읽기 전용 복제본 커넥션 풀 하나 + 상태
+// 주기 점검(ReplicaHealthChecker) 또는 커넥션 획득 실패 시 빠지고, 다음 점검에서 정상이면 다시 들어간다
+@Slf4j
+public class ReplicaPool {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final HikariDataSource dataSource;
+
+    // 지연(초)을 돌려주는 쿼리, 비어 있으면 지연은 보지 않음 (연결 확인만)
+    // 예) MySQL + pt-heartbeat: select timestampdiff(second, max(ts), utc_timestamp()) from heartbeat
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean healthy = true;
+    @Getter
+    private volatile long lagSeconds;
+
+    public ReplicaPool(String name, HikariDataSource dataSource, String lagQuery, long maxLagSeconds) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    // 커넥션 획득 실패: 다음 점검까지 제외
+    void markDown(SQLException e) {
+        if (healthy) {
+            log.warn("복제본 {} 제외 (커넥션 실패): {}", name, e.getMessage());
+        }
+        healthy = false;
+    }
+
+    // 연결 + 지연 확인
+    void check() {
+        boolean ok;
+        try (Connection connection = dataSource.getConnection()) {
+            ok = connection.isValid(2);
+            if (ok && lagQuery != null && !lagQuery.isBlank()) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(lagQuery)) {
+                    lagSeconds = rs.next() ? rs.getLong(1) : Long.MAX_VALUE;
+                }
+                ok = lagSeconds <= maxLagSeconds;
+            }
+        } catch (SQLException e) {
+            ok = false;
+        }
+
+        if (ok != healthy) {
+            if (ok) {
+                log.info("복제본 {} 복귀", name);
+            } else {
+                log.warn("복제본 {} 제외 (점검 실패 또는 지연 {}초)", name, lagSeconds);
+            }
+        }
+        healthy = ok;
+    }
+}
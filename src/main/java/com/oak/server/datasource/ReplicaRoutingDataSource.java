@@ -0,0 +1,132 @@
+package com.oak.server.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 주 DB / 복제본 라우팅
+// - 읽기 전용 트랜잭션(@Transactional(readOnly = true)) -> 정상 복제본을 돌아가며 사용
+// - 그 밖(쓰기 트랜잭션, 트랜잭션 밖 조회) -> 주 DB
+// - 방금 쓰기를 커밋한 사용자의 읽기 -> 주 DB (ReadYourWrites)
+// - 정상 복제본이 없거나 커넥션을 못 얻으면 주 DB 로 대체
+// 트랜잭션의 readOnly 여부는 커넥션을 실제로 꺼낼 때 정해져 있어야 하므로
+// 반드시 LazyConnectionDataSourceProxy 로 감싸서 쓴다 (DataSourceConfig)
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private final HikariDataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // oak.datasource.route{pool=primary|replica-N, reason=write|read|sticky|fallback}
+    private final Counter writes;
+    private final Counter sticky;
+    private final Counter fallbacks;
+    private final List<Counter> replicaReads;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<ReplicaPool> replicas,
+                                    ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+        this.writes = route(meterRegistry, "primary", "write");
+        this.sticky = route(meterRegistry, "primary", "sticky");
+        this.fallbacks = route(meterRegistry, "primary", "fallback");
+        this.replicaReads = this.replicas.stream().map(r -> route(meterRegistry, r.getName(), "read")).toList();
+        for (ReplicaPool replica : this.replicas) {
+            Gauge.builder("oak.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("pool", replica.getName()).register(meterRegistry);
+            Gauge.builder("oak.datasource.replica.lag", replica, ReplicaPool::getLagSeconds)
+                    .tag("pool", replica.getName()).baseUnit("seconds").register(meterRegistry);
+        }
+    }
+
+    private static Counter route(MeterRegistry registry, String pool, String reason) {
+        return Counter.builder("oak.datasource.route").tag("pool", pool).tag("reason", reason).register(registry);
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(target -> target.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriter();
+            writes.increment();
+            return opener.open(primary);
+        }
+        if (readYourWrites.isSticky()) {
+            sticky.increment();
+            return opener.open(primary);
+        }
+
+        // 복제본이 하나도 없으면 (datasource.replicas 가 비어 있으면) 바로 주 DB
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int idx = (start + i) % size;
+            ReplicaPool replica = replicas.get(idx);
+            if (!replica.isHealthy()) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.getDataSource());
+                replicaReads.get(idx).increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException e) {
+                // 풀이 지원하지 않는 호출 (계정 지정 등): 복제본 장애가 아니므로 빼지 않는다
+                throw e;
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        fallbacks.increment();
+        return opener.open(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource target) throws SQLException;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 그 사용자를 잠시 주 DB 에 고정
+    private void rememberWriter() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.markWrite();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+        primary.close();
+    }
+}
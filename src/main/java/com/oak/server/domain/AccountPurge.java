@@ -0,0 +1,61 @@
+package com.oak.server.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 회원 탈퇴 정리 작업 (AccountPurgeService 가 묶음마다 같은 트랜잭션에서 단계/건수를 갱신)
+// 중간에 서버가 멈춰도 기록된 단계부터 이어서 하고, 끝난 뒤에도 기록으로 남는다
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "account_purge")
+public class AccountPurge {
+
+    // 정리 순서: 내가 누른 글 추천 -> 댓글 추천 -> 내 댓글 -> 내 글(달린 댓글/추천 포함) -> 회원 행
+    public enum Stage {
+        POST_VOTES, REPLY_VOTES, REPLIES, POSTS, ACCOUNT, DONE
+    }
+
+    // 회원 행은 마지막에 지워지므로 연관관계 대신 id 만
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Stage stage;
+
+    // 단계별 삭제 건수
+    private long postVotes;
+    private long replyVotes;
+    private long replies;
+    private long posts;
+    private long files;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public AccountPurge(Long userId, String username, LocalDateTime requestedAt) {
+        this.userId = userId;
+        this.username = username;
+        this.stage = Stage.POST_VOTES;
+        this.requestedAt = requestedAt;
+        this.updatedAt = requestedAt;
+    }
+}
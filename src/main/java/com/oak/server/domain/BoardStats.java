@@ -0,0 +1,26 @@
+package com.oak.server.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시판 전체 글 수 (한 행, id = 1)
+// 목록 버전 확인(PostListVersionProvider)이 요청마다 COUNT(*) 로 테이블을 훑지 않고 PK 로 읽는다
+// 글 작성/삭제와 같은 트랜잭션에서 UPDATE 로만 증감하고, 없으면 기동 시 ActivityCountInitializer 가 센다
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "board_stats")
+public class BoardStats {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(columnDefinition = "bigint default 0", nullable = false)
+    private long postCount;
+}
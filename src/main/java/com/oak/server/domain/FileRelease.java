@@ -0,0 +1,38 @@
+package com.oak.server.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 삭제 대기 중인 업로드 파일 (FileStorageService)
+// 같은 내용의 파일은 글/프로필/변형본이 함께 쓰므로 바로 지우지 않고, releaseAfter 가 지난 뒤 참조를 다시 확인하고 지운다
+// 같은 키를 다시 쓰려는 쪽은 먼저 이 행을 지운다 (정리 중이면 그 행 잠금이 풀릴 때까지 기다림)
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "file_release", indexes = {
+        @Index(name = "idx_file_release_release_after", columnList = "release_after")
+})
+public class FileRelease {
+
+    // 저장소 키 ({sha256}.{ext}, 변형본은 {sha256}-{suffix}.{ext})
+    @Id
+    @Column(name = "storage_key", length = 200)
+    private String key;
+
+    @Column(nullable = false)
+    private LocalDateTime releaseAfter;
+
+    public FileRelease(String key, LocalDateTime releaseAfter) {
+        this.key = key;
+        this.releaseAfter = releaseAfter;
+    }
+}
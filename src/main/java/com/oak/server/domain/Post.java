@@ -1,20 +1,41 @@
 package com.oak.server.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 @Getter
 @Setter
 @Entity
+@Table(indexes = {
+        // 피드 키셋 페이징 (createDate desc, id desc) 용 복합 인덱스
+        @Index(name = "idx_post_create_date_id", columnList = "create_date, id"),
+        // 작성자별 글 목록 키셋 페이징 (author_id, createDate, id)
+        @Index(name = "idx_post_author_create_date_id", columnList = "author_id, create_date, id"),
+        // 인기순 정렬용
+        @Index(name = "idx_post_vote_count", columnList = "vote_count, create_date"),
+        // 첨부 파일 참조 확인용
+        @Index(name = "idx_post_file_path", columnList = "file_path"),
+        @Index(name = "idx_post_thumbnail_path", columnList = "thumbnail_path")
+})
+// 2차 캐시: 수정/삭제/댓글 작성 때 id 로 다시 읽는 글 (목록/상세 응답은 프로젝션 + PostReadCache 라 여기를 거치지 않음)
+// 수정은 엔티티로 저장하므로 READ_WRITE. 썸네일 경로 변경(JPQL)은 Hibernate 가 영역을 비움
+// 추천 수/조회수/revision 은 네이티브·JDBC UPDATE 로만 바뀌어 캐시 값이 늦을 수 있으므로 엔티티에서 읽지 않는다 (QuerySpaces.COUNTERS)
+// 댓글 컬렉션은 캐시하지 않음 (댓글은 커서로 따로 읽고, 컬렉션은 삭제 cascade 용)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Post {
 
+    // 일괄 저장 시 INSERT 를 JDBC 배치로 묶을 수 있도록 IDENTITY 대신 pooled 시퀀스
+    // (시퀀스가 없는 MySQL 에서는 post_seq 테이블로 대체, id 는 50개씩 미리 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
 
     @Column(length = 200)
@@ -25,6 +46,8 @@ public class Post {
 
     private LocalDateTime createDate;
 
+    // 삭제 cascade 와 댓글 수(size) 계산용. 응답에 싣지 않고, 댓글은 ReplyService 에서 커서 단위로 읽는다
+    @JsonIgnore
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE)
     private List<Reply> replyList;
 
@@ -33,12 +56,26 @@ public class Post {
 
     private LocalDateTime modifyDate;
 
-    @ManyToMany
-    Set<SiteUser> voter;
+    // 추천 수 (PostVote 토글과 함께 UPDATE 로만 증감)
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int voteCount;
 
-    @Column(columnDefinition = "integer default 0", nullable = false)
+    // 조회수는 ViewCountBuffer 의 일괄 UPDATE 로만 증가 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
     private int view;
 
     private String fileName;
     private String filePath;
+
+    // 응답 버전 (조건부 GET 의 ETag). 수정/추천/댓글처럼 목록·상세 응답이 바뀌는 UPDATE 에서 함께 증가
+    @Column(columnDefinition = "bigint default 0", nullable = false, updatable = false)
+    private long revision;
+
+    // revision 이 마지막으로 바뀐 시각 (Last-Modified)
+    @Column(updatable = false)
+    private LocalDateTime revisedAt;
+
+    // 목록용 썸네일 (ImageVariantService 가 커밋 후 UPDATE 로 채움, 엔티티 저장 시 덮어쓰지 않음)
+    @Column(updatable = false)
+    private String thumbnailPath;
 }
@@ -0,0 +1,33 @@
+package com.oak.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 게시글 추천 (기존 post_voter 조인 테이블을 그대로 사용, PK(post_id, voter_id) 가 중복 추천을 막는다)
+@Getter
+@Setter
+@Entity
+@Table(name = "post_voter", indexes = {
+        // 회원별 추천한 글 목록 키셋 페이징 (PK 는 post_id 로 시작하므로 voter_id 로 찾을 수 없음)
+        @Index(name = "idx_post_voter_voter_create_date", columnList = "voter_id, create_date, post_id")
+})
+public class PostVote {
+
+    @EmbeddedId
+    private VoteId id;
+
+    @MapsId("targetId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @MapsId("voterId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "voter_id")
+    private SiteUser voter;
+
+    private LocalDateTime createDate;
+}
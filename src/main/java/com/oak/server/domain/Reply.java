@@ -6,16 +6,24 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Set;
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
 @Entity
+@Table(indexes = {
+        // 글별 댓글 키셋 페이징 (post_id, createDate, id)
+        @Index(name = "idx_reply_post_create_date_id", columnList = "post_id, create_date, id"),
+        // 작성자별 댓글 목록 키셋 페이징 (author_id, createDate, id)
+        @Index(name = "idx_reply_author_create_date_id", columnList = "author_id, create_date, id")
+})
 public class Reply {
 
+    // 일괄 저장 시 INSERT 를 JDBC 배치로 묶을 수 있도록 IDENTITY 대신 pooled 시퀀스
+    // (시퀀스가 없는 MySQL 에서는 reply_seq 테이블로 대체, id 는 50개씩 미리 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reply_seq")
+    @SequenceGenerator(name = "reply_seq", sequenceName = "reply_seq", allocationSize = 50)
     private Long id;
 
     @Column(columnDefinition = "TEXT")
@@ -35,7 +43,7 @@ public class Reply {
         this.content = content;
     }
 
-    // 추천
-    @ManyToMany
-    Set<SiteUser> voter;
+    // 추천 수 (ReplyVote 토글과 함께 UPDATE 로만 증감)
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int voteCount;
 }
@@ -0,0 +1,30 @@
+package com.oak.server.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 댓글 추천 (기존 reply_voter 조인 테이블을 그대로 사용, PK(reply_id, voter_id) 가 중복 추천을 막는다)
+@Getter
+@Setter
+@Entity
+@Table(name = "reply_voter")
+public class ReplyVote {
+
+    @EmbeddedId
+    private VoteId id;
+
+    @MapsId("targetId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reply_id")
+    private Reply reply;
+
+    @MapsId("voterId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "voter_id")
+    private SiteUser voter;
+
+    private LocalDateTime createDate;
+}
@@ -4,18 +4,37 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @Setter
 @Entity
+@Table(indexes = {
+        // 프로필 이미지 참조 확인용 (파일 정리)
+        @Index(name = "idx_site_user_profile_img", columnList = "profile_img"),
+        @Index(name = "idx_site_user_profile_thumb_path", columnList = "profile_thumb_path")
+})
+// 2차 캐시: 거의 모든 요청이 아이디로 회원을 읽는다 (JWT 인증, getUser). 비밀번호/프로필 변경은 엔티티로 저장하므로 READ_WRITE
+// 아이디는 바뀌지 않으므로 자연 키로 두고 username -> id 도 캐시
+// 활동 수 컬럼은 네이티브 UPDATE 로만 바뀌어 캐시 값이 늦을 수 있음 -> 응답에 싣지 않고 /users/me/stats 로 (QuerySpaces.COUNTERS)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class SiteUser {
 
+    // 일괄 저장 시 INSERT 를 JDBC 배치로 묶을 수 있도록 IDENTITY 대신 pooled 시퀀스
+    // (시퀀스가 없는 MySQL 에서는 site_user_seq 테이블로 대체, id 는 50개씩 미리 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "site_user_seq")
+    @SequenceGenerator(name = "site_user_seq", sequenceName = "site_user_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
     @Column(unique = true)
     private String username;
 
@@ -27,6 +46,27 @@ public class SiteUser {
 
     private String profileImg;
 
+    // 아바타용 축소본 (ImageVariantService 가 커밋 후 UPDATE 로 채움)
+    @Column(updatable = false)
+    private String profileThumbPath;
+
+    // 탈퇴 요청 시각. 값이 있으면 로그인/인증이 막히고 AccountPurgeService 가 글/댓글/추천을 나눠 지운 뒤 행을 삭제한다
+    @JsonIgnore
+    private LocalDateTime withdrawnAt;
+
+    // 활동 수 (내 글/댓글/추천한 글). 작성/삭제/추천과 함께 UPDATE 로만 증감 (엔티티 저장 시 덮어쓰지 않음)
+    @JsonIgnore
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int postCount;
+
+    @JsonIgnore
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int replyCount;
+
+    @JsonIgnore
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int likeCount;
+
     @JsonIgnore
     @OneToMany(mappedBy = "author", cascade = CascadeType.REMOVE)
     private List<Post> postList;
@@ -0,0 +1,49 @@
+package com.oak.server.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// 인기글 점수 스냅샷 (TrendingService 가 주기적으로 상위 N 건만 다시 써 둔다)
+// 재시작 시 이 값을 scoredAt 기준으로 감쇠시켜 불러오므로 순위가 처음부터 다시 쌓이지 않는다
+// 항상 전체 삭제 후 INSERT 만 하므로 isNew() = true (saveAll 이 행마다 SELECT(merge) 하지 않도록)
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "trending_score")
+public class TrendingScore implements Persistable<Long> {
+
+    @Id
+    private Long postId;
+
+    // scoredAt 시점의 감쇠된 점수
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime scoredAt;
+
+    public TrendingScore(Long postId, double score, LocalDateTime scoredAt) {
+        this.postId = postId;
+        this.score = score;
+        this.scoredAt = scoredAt;
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
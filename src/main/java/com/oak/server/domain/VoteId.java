@@ -0,0 +1,20 @@
+package com.oak.server.domain;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 추천 테이블 복합 키 (대상 id, 추천자 id)
+@Getter
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class VoteId implements Serializable {
+    private Long targetId;
+    private Long voterId;
+}
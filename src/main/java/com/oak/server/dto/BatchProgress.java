@@ -0,0 +1,11 @@
+package com.oak.server.dto;
+
+// 일괄 등록 진행 상황 (묶음 하나가 커밋될 때마다)
+public record BatchProgress(int chunks, long posts, long replies, long elapsedMs) {
+
+    // NDJSON 한 줄
+    public String toJsonLine() {
+        return "{\"chunks\":" + chunks + ",\"posts\":" + posts + ",\"replies\":" + replies
+                + ",\"elapsedMs\":" + elapsedMs + "}\n";
+    }
+}
@@ -0,0 +1,15 @@
+package com.oak.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 페이징 응답 (전체 개수 없이 다음 커서만 전달)
+@Getter
+@AllArgsConstructor
+public class CursorSlice<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
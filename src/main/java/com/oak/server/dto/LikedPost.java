@@ -0,0 +1,20 @@
+package com.oak.server.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내가 추천한 글 (목록 요약 + 추천 시각, 추천 시각은 다음 묶음 커서로 사용)
+@Getter
+public class LikedPost extends PostSummary {
+
+    private final LocalDateTime likedAt;
+
+    public LikedPost(Long id, String title, String content, String thumbnailPath, LocalDateTime createDate, int view,
+                     String authorName, String authorProfileImg, int replyCount, int voteCount, long revision,
+                     LocalDateTime likedAt) {
+        super(id, title, content, thumbnailPath, createDate, view, authorName, authorProfileImg, replyCount, voteCount,
+                revision);
+        this.likedAt = likedAt;
+    }
+}
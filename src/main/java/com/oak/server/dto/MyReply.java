@@ -0,0 +1,18 @@
+package com.oak.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내가 쓴 댓글 (원문 글 id/제목만 함께, 글 엔티티 전체를 싣지 않음)
+@Getter
+@AllArgsConstructor
+public class MyReply {
+    private Long id;
+    private Long postId;
+    private String postTitle;
+    private String content;
+    private LocalDateTime createDate;
+    private int voteCount;
+}
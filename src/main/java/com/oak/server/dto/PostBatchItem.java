@@ -0,0 +1,24 @@
+package com.oak.server.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 일괄 등록 항목 (이전 게시판 이관용, createDate 를 비우면 현재 시각)
+@Getter
+@Setter
+public class PostBatchItem {
+    private String title;
+    private String content;
+    private LocalDateTime createDate;
+    private List<ReplyItem> replies;
+
+    @Getter
+    @Setter
+    public static class ReplyItem {
+        private String content;
+        private LocalDateTime createDate;
+    }
+}
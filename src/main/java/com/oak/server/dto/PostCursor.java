@@ -0,0 +1,36 @@
+package com.oak.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 피드/댓글 커서: 마지막으로 받은 글(댓글)의 (createDate, id) 를 Base64 로 감싼 불투명 문자열
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime createDate;
+    private Long id;
+
+    public String encode() {
+        String raw = createDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
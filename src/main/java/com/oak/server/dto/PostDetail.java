@@ -0,0 +1,63 @@
+package com.oak.server.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// 게시글 상세용 읽기 모델 (댓글은 싣지 않고 댓글 수만, 댓글 목록은 /api/posts/{id}/replies)
+@Getter
+public class PostDetail implements Serializable {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String fileName;
+    private final String filePath;
+    private final LocalDateTime createDate;
+    private final LocalDateTime modifyDate;
+    @Setter
+    private int view; // DB 값 + 아직 반영되지 않은 조회수
+    private final String authorName;
+    private final String authorProfileImg;
+    private final int replyCount;
+    private final int voteCount;
+    // 읽은 시점의 글 revision / 마지막 변경 시각 (조건부 GET 의 ETag / Last-Modified 를 캐시된 본문 기준으로 만들 때 사용)
+    @JsonIgnore
+    private final long revision;
+    @JsonIgnore
+    private final LocalDateTime revisedAt;
+
+    @Setter
+    private boolean liked;
+
+    public PostDetail(Long id, String title, String content, String fileName, String filePath,
+                      LocalDateTime createDate, LocalDateTime modifyDate, int view,
+                      String authorName, String authorProfileImg, int replyCount, int voteCount,
+                      long revision, LocalDateTime revisedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.fileName = fileName;
+        this.filePath = filePath;
+        this.createDate = createDate;
+        this.modifyDate = modifyDate;
+        this.view = view;
+        this.authorName = authorName;
+        this.authorProfileImg = authorProfileImg;
+        this.replyCount = replyCount;
+        this.voteCount = voteCount;
+        this.revision = revision;
+        this.revisedAt = revisedAt;
+    }
+
+    // 캐시에 보관된 값을 요청마다 고쳐 쓰지 않도록 복사본 사용
+    public PostDetail copy() {
+        PostDetail copy = new PostDetail(id, title, content, fileName, filePath, createDate, modifyDate, view,
+                authorName, authorProfileImg, replyCount, voteCount, revision, revisedAt);
+        copy.setLiked(liked);
+        return copy;
+    }
+}
@@ -0,0 +1,55 @@
+package com.oak.server.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// 게시글 목록용 읽기 모델 (JPQL 생성자 프로젝션으로 한 번에 조회, PostReadCache 에 보관)
+@Getter
+public class PostSummary implements Serializable {
+
+    private final Long id;
+    private final String title;
+    private final String content; // 미리보기용 앞부분
+    private final String thumbnailPath; // 썸네일 (아직 없으면 원본), 원본은 상세에서만
+    private final LocalDateTime createDate;
+    @Setter
+    private int view; // DB 값 + 아직 반영되지 않은 조회수
+    private final String authorName;
+    private final String authorProfileImg;
+    private final int replyCount;
+    private final int voteCount;
+    // 읽은 시점의 글 revision (조건부 GET 의 ETag 를 캐시된 본문 기준으로 만들 때 사용, 응답에는 싣지 않음)
+    @JsonIgnore
+    private final long revision;
+
+    // 로그인 사용자가 추천했는지 여부 (조회 후 채움)
+    @Setter
+    private boolean liked;
+
+    public PostSummary(Long id, String title, String content, String thumbnailPath, LocalDateTime createDate, int view,
+                       String authorName, String authorProfileImg, int replyCount, int voteCount, long revision) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.thumbnailPath = thumbnailPath;
+        this.createDate = createDate;
+        this.view = view;
+        this.authorName = authorName;
+        this.authorProfileImg = authorProfileImg;
+        this.replyCount = replyCount;
+        this.voteCount = voteCount;
+        this.revision = revision;
+    }
+
+    // 캐시에 보관된 값을 요청마다 고쳐 쓰지 않도록 복사본 사용
+    public PostSummary copy() {
+        PostSummary copy = new PostSummary(id, title, content, thumbnailPath, createDate, view,
+                authorName, authorProfileImg, replyCount, voteCount, revision);
+        copy.setLiked(liked);
+        return copy;
+    }
+}
@@ -0,0 +1,33 @@
+package com.oak.server.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 댓글 읽기 모델 (추천자 목록 대신 추천 수만 전달)
+@Getter
+public class ReplyResponse {
+
+    private final Long id;
+    private final Long postId;
+    private final String content;
+    private final LocalDateTime createDate;
+    private final String authorName;
+    private final String authorProfileImg;
+    private final int voteCount;
+
+    @Setter
+    private boolean liked;
+
+    public ReplyResponse(Long id, Long postId, String content, LocalDateTime createDate,
+                         String authorName, String authorProfileImg, int voteCount) {
+        this.id = id;
+        this.postId = postId;
+        this.content = content;
+        this.createDate = createDate;
+        this.authorName = authorName;
+        this.authorProfileImg = authorProfileImg;
+        this.voteCount = voteCount;
+    }
+}
@@ -0,0 +1,13 @@
+package com.oak.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 마이페이지 활동 요약 (site_user 의 카운터 컬럼, 목록을 세지 않음)
+@Getter
+@AllArgsConstructor
+public class UserStats {
+    private int postCount;
+    private int replyCount;
+    private int likeCount;
+}
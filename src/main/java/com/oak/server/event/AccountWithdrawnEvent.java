@@ -0,0 +1,12 @@
+package com.oak.server.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원 탈퇴 요청 이벤트 (커밋 후 AccountPurgeService 가 글/댓글/추천 정리를 시작)
+@Getter
+@AllArgsConstructor
+public class AccountWithdrawnEvent {
+
+    private final Long userId;
+}
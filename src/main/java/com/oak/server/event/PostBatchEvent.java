@@ -0,0 +1,15 @@
+package com.oak.server.event;
+
+import com.oak.server.domain.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 등록 이벤트 (묶음 하나가 커밋될 때마다 한 번, 글마다 이벤트를 내지 않음)
+@Getter
+@AllArgsConstructor
+public class PostBatchEvent {
+
+    private final List<Post> posts;
+}
@@ -0,0 +1,30 @@
+package com.oak.server.event;
+
+import com.oak.server.domain.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 변경 이벤트 (트랜잭션 커밋 후 검색 색인 등 부가 작업에 사용)
+@Getter
+@AllArgsConstructor
+public class PostEvent {
+
+    public enum Type {
+        CREATED, MODIFIED, DELETED
+    }
+
+    private final Type type;
+    private final Post post;
+
+    public static PostEvent created(Post post) {
+        return new PostEvent(Type.CREATED, post);
+    }
+
+    public static PostEvent modified(Post post) {
+        return new PostEvent(Type.MODIFIED, post);
+    }
+
+    public static PostEvent deleted(Post post) {
+        return new PostEvent(Type.DELETED, post);
+    }
+}
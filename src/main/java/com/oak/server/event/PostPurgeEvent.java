@@ -0,0 +1,14 @@
+package com.oak.server.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 글 일괄 삭제 이벤트 (탈퇴 정리 묶음 하나가 커밋될 때마다 한 번, 엔티티를 읽지 않고 지우므로 id 만)
+@Getter
+@AllArgsConstructor
+public class PostPurgeEvent {
+
+    private final List<Long> postIds;
+}
@@ -0,0 +1,34 @@
+package com.oak.server.event;
+
+import com.oak.server.domain.Reply;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 작성/수정/삭제 이벤트 (글의 댓글 수나 revision 이 바뀜)
+@Getter
+@AllArgsConstructor
+public class ReplyEvent {
+
+    public enum Type {
+        CREATED, MODIFIED, DELETED
+    }
+
+    private final Type type;
+    private final Reply reply;
+
+    public Long getPostId() {
+        return reply.getPost().getId();
+    }
+
+    public static ReplyEvent created(Reply reply) {
+        return new ReplyEvent(Type.CREATED, reply);
+    }
+
+    public static ReplyEvent modified(Reply reply) {
+        return new ReplyEvent(Type.MODIFIED, reply);
+    }
+
+    public static ReplyEvent deleted(Reply reply) {
+        return new ReplyEvent(Type.DELETED, reply);
+    }
+}
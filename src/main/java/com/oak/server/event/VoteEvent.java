@@ -0,0 +1,31 @@
+package com.oak.server.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 추천/추천 취소 이벤트
+@Getter
+@AllArgsConstructor
+public class VoteEvent {
+
+    public enum Target {
+        POST, REPLY
+    }
+
+    private final Target target;
+    private final Long targetId;
+    private final Long postId; // 추천한 글, 또는 추천한 댓글이 달린 글
+    private final boolean voted; // true = 추천, false = 추천 취소
+    // 글 추천 시각 (취소면 취소된 추천을 했던 시각, 모르면 null). 인기글 점수가 그 추천이 더했던 만큼만 빼도록
+    private final LocalDateTime votedAt;
+
+    public static VoteEvent post(Long postId, boolean voted, LocalDateTime votedAt) {
+        return new VoteEvent(Target.POST, postId, postId, voted, votedAt);
+    }
+
+    public static VoteEvent reply(Long replyId, Long postId, boolean voted) {
+        return new VoteEvent(Target.REPLY, replyId, postId, voted, null);
+    }
+}
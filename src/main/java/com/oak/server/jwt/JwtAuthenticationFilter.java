@@ -1,66 +1,145 @@
 package com.oak.server.jwt;
 
 import com.oak.server.service.UserSecurityService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserSecurityService userSecurityService;
+    private final PrincipalCache principalCache;
+
+    // cache  : 캐시에 없을 때만 DB 에서 회원 조회 (기본)
+    // claims : DB 조회 없이 토큰 클레임만으로 인증 객체 생성 (탈퇴 후에도 토큰 만료 전까지는 통과)
+    private final boolean claimsOnly;
+
+    // DEBUG 로그를 켰을 때 요청 중 이 비율만 추적 로그를 남긴다 (토큰 원문은 남기지 않음)
+    private final double traceSampleRate;
+
+    // 메트릭 (필터 처리 시간은 결과별로 미리 만들어 둠)
+    private final Timer authenticatedTimer;
+    private final Timer anonymousTimer;
+    private final Timer rejectedTimer;
+    private final Timer userLookupTimer;
+    private final Counter invalidTokenCounter;
+    private final Counter unknownUserCounter;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
+                                   UserSecurityService userSecurityService,
+                                   PrincipalCache principalCache,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${jwt.auth-mode:cache}") String authMode,
+                                   @Value("${jwt.trace.sample-rate:0.01}") double traceSampleRate) {
+        this.tokenProvider = tokenProvider;
+        this.userSecurityService = userSecurityService;
+        this.principalCache = principalCache;
+        this.claimsOnly = "claims".equalsIgnoreCase(authMode);
+        this.traceSampleRate = traceSampleRate;
+
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.anonymousTimer = filterTimer(meterRegistry, "anonymous");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+        this.userLookupTimer = Timer.builder("oak.auth.user.lookup")
+                .description("토큰 속 사용자 조회 시간 (캐시 적중 포함)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.invalidTokenCounter = failureCounter(meterRegistry, "invalid_token");
+        this.unknownUserCounter = failureCounter(meterRegistry, "unknown_user");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        long start = System.nanoTime();
+
         // 1. 요청 헤더에서 토큰 꺼내기
         String token = resolveToken(request);
 
-        // ★ CCTV: 토큰이 잘 들어왔는지 로그 찍기
-        System.out.println("================================================");
-        System.out.println("1. 요청 URL: " + request.getRequestURI());
-        System.out.println("2. 헤더에서 추출한 토큰: " + token);
+        Timer resultTimer;
+        String username = null;
+        if (!StringUtils.hasText(token)) {
+            resultTimer = anonymousTimer;
+        } else {
+            // 2. 토큰 검증과 클레임 추출을 한 번에
+            Claims claims = tokenProvider.parseAndValidate(token);
+            if (claims == null) {
+                invalidTokenCounter.increment();
+                resultTimer = rejectedTimer;
+            } else {
+                // 3. 토큰에서 사용자 이름(ID) 뽑기
+                username = claims.getSubject();
 
-        // 2. 토큰이 있고, 유효하다면?
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            System.out.println("3. 토큰 유효성 검사 통과! ✅");
+                // 4. 사용자 정보 가져오기 (캐시 또는 토큰 클레임)
+                UserDetails userDetails = resolveUser(username);
+                if (userDetails == null) {
+                    unknownUserCounter.increment();
+                    resultTimer = rejectedTimer;
+                } else {
+                    // 5. 인증 객체 생성
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-            // 3. 토큰에서 사용자 이름(ID) 뽑기
-            String username = tokenProvider.getUsername(token);
-            System.out.println("4. 토큰 속 사용자 이름: " + username);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            // 4. DB에서 사용자 정보 가져오기
-            UserDetails userDetails = userSecurityService.loadUserByUsername(username);
+                    // 6. SecurityContext에 저장
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    resultTimer = authenticatedTimer;
+                }
+            }
+        }
 
-            // 5. 인증 객체 생성
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        long elapsed = System.nanoTime() - start;
+        resultTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        trace(request, resultTimer == authenticatedTimer, username, elapsed);
 
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        filterChain.doFilter(request, response);
+    }
 
-            // 6. SecurityContext에 저장
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            System.out.println("5. 인증 완료! SecurityContext에 저장됨.");
-        } else {
-            System.out.println("3. 토큰이 없거나 유효하지 않음! ❌ (403 원인)");
+    private UserDetails resolveUser(String username) {
+        if (claimsOnly) {
+            return new User(username, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        }
+        try {
+            return userLookupTimer.record(() -> principalCache.get(username, userSecurityService::loadUserByUsername));
+        } catch (UsernameNotFoundException e) {
+            // 탈퇴한 회원의 토큰
+            return null;
         }
-        System.out.println("================================================");
+    }
 
-        filterChain.doFilter(request, response);
+    private void trace(HttpServletRequest request, boolean authenticated, String username, long elapsedNanos) {
+        if (!log.isDebugEnabled() || ThreadLocalRandom.current().nextDouble() >= traceSampleRate) {
+            return;
+        }
+        log.debug("auth {} {} authenticated={} user={} took={}us",
+                request.getMethod(), request.getRequestURI(), authenticated, username, elapsedNanos / 1_000);
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -70,4 +149,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
+
+    private static Timer filterTimer(MeterRegistry registry, String result) {
+        return Timer.builder("oak.auth.filter")
+                .description("JWT 인증 필터 처리 시간 (다음 필터 제외)")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    private static Counter failureCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("oak.auth.token.failures")
+                .description("인증 실패 토큰 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
 }
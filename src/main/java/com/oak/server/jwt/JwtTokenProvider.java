@@ -1,6 +1,11 @@
 package com.oak.server.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,9 +13,11 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
@@ -18,8 +25,19 @@ public class JwtTokenProvider {
     private final SecretKey secretKey;
     private final long validityInMilliseconds = 3600000; // 1시간
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
+    // 파서는 불변 + 스레드 안전하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+
+    // 최근 검증한 토큰(SHA-256 digest) -> 클레임. 토큰 만료 시각에 맞춰 자동 제거 (0이면 사용 안 함)
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(verifiedCacheSize).expireAfter(new UntilTokenExpiry()).build()
+                : null;
     }
 
     // 1. 토큰 생성 (로그인 성공 시 호출)
@@ -35,27 +53,86 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 2. 토큰에서 사용자 이름 꺼내기 (요청 들어올 때 호출)
+    // 2. 토큰 검증 + 클레임 반환 (요청마다 한 번만 호출)
+    // 위조되었거나 만료된 토큰이면 null
+    public Claims parseAndValidate(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (isExpired(cached)) {
+                verifiedTokens.invalidate(digest);
+                return null;
+            }
+            return cached;
+        }
+
+        Claims claims = parse(token);
+        if (claims != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    // 3. 토큰에서 사용자 이름 꺼내기
     public String getUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        Claims claims = parseAndValidate(token);
+        return claims == null ? null : claims.getSubject();
     }
 
-    // 3. 토큰 유효성 검사
+    // 4. 토큰 유효성 검사
     public boolean validateToken(String token) {
+        return parseAndValidate(token) != null;
+    }
+
+    private Claims parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
             // 위조되었거나 만료된 토큰
-            return false;
+            return null;
+        }
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    // 원문 토큰을 메모리에 보관하지 않도록 digest 를 키로 사용
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 항목 수명 = 토큰 남은 유효 시간
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMillis = Math.max(0, expiration.getTime() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
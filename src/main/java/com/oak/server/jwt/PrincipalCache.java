@@ -0,0 +1,72 @@
+package com.oak.server.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 인증된 사용자 정보 캐시
+// 서명이 확인된 토큰마다 DB 에서 회원을 다시 읽지 않도록 username -> UserDetails 를 잠시 보관한다
+// 비밀번호 변경, 탈퇴, 프로필 변경 시 UserService 에서 커밋 후 invalidate 한다
+// (커밋 전에 비우면 그 사이 다른 요청이 변경 전 회원을 다시 읽어 TTL 동안 캐시에 남는다)
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(@Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${jwt.principal-cache.ttl:5m}") Duration ttl,
+                          @Value("${jwt.principal-cache.record-stats:true}") boolean recordStats,
+                          MeterRegistry meterRegistry) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl);
+        if (recordStats) {
+            builder.recordStats();
+        }
+        this.cache = builder.build();
+        if (recordStats) {
+            // cache.gets{cache=principal,result=hit|miss}, cache.size 등
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+        }
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return cache.get(username, loader);
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 비움 (트랜잭션 밖이면 바로)
+    public void invalidateAfterCommit(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(username);
+            }
+        });
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
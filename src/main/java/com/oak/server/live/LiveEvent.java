@@ -0,0 +1,30 @@
+package com.oak.server.live;
+
+// 실시간 피드로 내보내는 이벤트 (SSE event 이름 + JSON data)
+// sequence 는 LiveFeedBroadcaster 가 링 버퍼에 쓸 때 붙이는 번호 (SSE id, 재연결 시 Last-Event-ID)
+public record LiveEvent(long sequence, String type, Object data) {
+
+    public static final String POST_CREATED = "post-created";
+    public static final String REPLY_CREATED = "reply-created";
+    public static final String VOTE_CHANGED = "vote-changed";
+    // 구독자가 밀려 이벤트를 버렸거나 링 버퍼 밖에서 재연결: 목록을 다시 읽어야 함
+    public static final String RESYNC = "resync";
+
+    public record PostCreated(Long id, String title, String authorName, String createDate) {
+    }
+
+    public record ReplyCreated(Long id, Long postId, String authorName, String createDate) {
+    }
+
+    // 추천 수 변화량 (구독자 대기열에서 같은 글끼리 합쳐짐)
+    public record VoteChanged(Long postId, int delta) {
+    }
+
+    LiveEvent withSequence(long sequence) {
+        return new LiveEvent(sequence, type, data);
+    }
+
+    LiveEvent withData(Object data) {
+        return new LiveEvent(sequence, type, data);
+    }
+}
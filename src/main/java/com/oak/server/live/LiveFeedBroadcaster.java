@@ -0,0 +1,163 @@
+package com.oak.server.live;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 실시간 피드 분배 (SSE)
+// - 발행(커밋 후 리스너)과 구독 등록은 모두 명령 대기열에 넣고, 디스패처 스레드 하나만 링 버퍼에 쓰고 구독자에게 나눠 준다
+//   (단일 작성자라 링 버퍼/번호에 잠금이 필요 없다)
+// - 링 버퍼는 최근 ring-size 개 이벤트를 보관: 재연결 시 Last-Event-ID 다음부터 다시 보내고, 너무 오래됐으면 resync
+// - 구독자 전송은 LiveSubscriber 가 가상 스레드에서 (연결을 기다리는 동안 플랫폼 스레드를 잡지 않음, SseEmitter 는 비동기 서블릿)
+@Slf4j
+@Component
+public class LiveFeedBroadcaster {
+
+    private final LiveEvent[] ring;
+    private final int mask;
+    private long nextSequence = 1; // 디스패처 스레드만 사용
+
+    private final BlockingQueue<Runnable> commands;
+    private final List<LiveSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread dispatcher;
+    // 대기열이 가득 차 이벤트를 버렸음 -> 디스패처가 다음 차례에 모두에게 resync (가득 찬 대기열에 다시 넣지 않음)
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+
+    private final int maxSubscribers;
+    private final int subscriberQueue;
+    private final Duration timeout;
+
+    private final Counter published;
+    private final Counter overflow;
+
+    public LiveFeedBroadcaster(MeterRegistry meterRegistry,
+                               @Value("${live.ring-size:1024}") int ringSize,
+                               @Value("${live.command-queue:10000}") int commandQueue,
+                               @Value("${live.max-subscribers:10000}") int maxSubscribers,
+                               @Value("${live.subscriber-queue:256}") int subscriberQueue,
+                               @Value("${live.timeout:30m}") Duration timeout) {
+        int size = Integer.highestOneBit(Math.max(2, ringSize - 1)) << 1; // 2의 거듭제곱
+        this.ring = new LiveEvent[size];
+        this.mask = size - 1;
+        this.commands = new ArrayBlockingQueue<>(commandQueue);
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberQueue = subscriberQueue;
+        this.timeout = timeout;
+
+        this.published = Counter.builder("oak.live.events").tag("result", "published").register(meterRegistry);
+        this.overflow = Counter.builder("oak.live.events").tag("result", "overflow").register(meterRegistry);
+        Gauge.builder("oak.live.subscribers", subscribers, List::size).register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "live-feed-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    // 커밋 후 리스너에서 호출. 대기열이 가득 차면 버리고 표시만 해 두면 디스패처가 모두에게 resync (요청 스레드를 막지 않음)
+    public void publish(String type, Object data) {
+        if (!commands.offer(() -> dispatch(new LiveEvent(0, type, data)))) {
+            overflow.increment();
+            log.warn("실시간 피드 대기열이 가득 차 이벤트를 버렸습니다: {}", type);
+            overflowed.set(true);
+        }
+    }
+
+    // 새 구독 (lastEventId: 브라우저가 재연결 시 보내는 Last-Event-ID)
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결이 너무 많습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, subscriberQueue, senders);
+        Runnable remove = () -> {
+            subscriber.close();
+            subscribers.remove(subscriber);
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        if (!commands.offer(() -> register(subscriber, lastEventId))) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결이 너무 많습니다.");
+        }
+        return emitter;
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Runnable command = commands.take();
+                // 버린 이벤트보다 앞선 명령 뒤에 알려도 된다 (resync 는 목록을 다시 읽게 할 뿐)
+                if (overflowed.getAndSet(false)) {
+                    subscribers.forEach(LiveSubscriber::markDropped);
+                }
+                command.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("실시간 피드 분배 실패", e);
+            }
+        }
+    }
+
+    // 디스패처 스레드
+    private void dispatch(LiveEvent event) {
+        LiveEvent numbered = event.withSequence(nextSequence++);
+        ring[(int) (numbered.sequence() & mask)] = numbered;
+        published.increment();
+        for (LiveSubscriber subscriber : subscribers) {
+            subscriber.offer(numbered);
+        }
+    }
+
+    // 디스패처 스레드: 링 버퍼에서 놓친 이벤트를 채워 넣은 뒤 구독자 목록에 추가
+    private void register(LiveSubscriber subscriber, Long lastEventId) {
+        if (subscriber.isClosed()) {
+            return;
+        }
+        long last = nextSequence - 1;
+        if (lastEventId != null && lastEventId > last) {
+            subscriber.markDropped(); // 서버 재시작 전 번호
+        } else if (lastEventId != null && lastEventId < last) {
+            long oldest = Math.max(1, last - ring.length + 1);
+            if (lastEventId + 1 < oldest) {
+                subscriber.markDropped();
+            } else {
+                for (long seq = lastEventId + 1; seq <= last; seq++) {
+                    subscriber.offer(ring[(int) (seq & mask)]);
+                }
+            }
+        }
+        subscribers.add(subscriber);
+    }
+
+    @Scheduled(fixedDelayString = "${live.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> senders.execute(subscriber::heartbeat));
+        subscribers.removeIf(LiveSubscriber::isClosed);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.interrupt();
+        senders.shutdownNow();
+    }
+}
@@ -0,0 +1,64 @@
+package com.oak.server.live;
+
+import com.oak.server.domain.Post;
+import com.oak.server.domain.Reply;
+import com.oak.server.event.PostBatchEvent;
+import com.oak.server.event.PostEvent;
+import com.oak.server.event.PostPurgeEvent;
+import com.oak.server.event.ReplyEvent;
+import com.oak.server.event.VoteEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+// 커밋된 글/댓글 작성과 글 추천만 실시간 피드로 내보냄
+@Component
+@RequiredArgsConstructor
+public class LiveFeedEventListener {
+
+    private final LiveFeedBroadcaster broadcaster;
+
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        if (event.getType() == PostEvent.Type.CREATED) {
+            broadcaster.publish(LiveEvent.POST_CREATED, postCreated(event.getPost()));
+        }
+    }
+
+    // 일괄 등록/삭제는 글마다 보내지 않고 목록을 다시 읽게 함
+    @TransactionalEventListener
+    public void onPostBatchEvent(PostBatchEvent event) {
+        broadcaster.publish(LiveEvent.RESYNC, Map.of());
+    }
+
+    @TransactionalEventListener
+    public void onPostPurgeEvent(PostPurgeEvent event) {
+        broadcaster.publish(LiveEvent.RESYNC, Map.of());
+    }
+
+    @TransactionalEventListener
+    public void onReplyEvent(ReplyEvent event) {
+        if (event.getType() == ReplyEvent.Type.CREATED) {
+            Reply reply = event.getReply();
+            broadcaster.publish(LiveEvent.REPLY_CREATED, new LiveEvent.ReplyCreated(reply.getId(), event.getPostId(),
+                    reply.getAuthor() == null ? null : reply.getAuthor().getUsername(),
+                    String.valueOf(reply.getCreateDate())));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onVoteEvent(VoteEvent event) {
+        if (event.getTarget() == VoteEvent.Target.POST) {
+            broadcaster.publish(LiveEvent.VOTE_CHANGED,
+                    new LiveEvent.VoteChanged(event.getTargetId(), event.isVoted() ? 1 : -1));
+        }
+    }
+
+    private static LiveEvent.PostCreated postCreated(Post post) {
+        return new LiveEvent.PostCreated(post.getId(), post.getTitle(),
+                post.getAuthor() == null ? null : post.getAuthor().getUsername(),
+                String.valueOf(post.getCreateDate()));
+    }
+}
@@ -0,0 +1,148 @@
+package com.oak.server.live;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// SSE 구독자 하나
+// - 대기열 길이 제한: 가득 차면 가장 오래된 이벤트를 버리고, 다음 전송 때 resync 를 먼저 보낸다
+// - 추천 변화(vote-changed)는 글별로 하나로 합쳐 둔다 (빠르게 토글돼도 대기열을 채우지 않음)
+//   단, 합친 이벤트의 id(마지막 번호)까지 받았다면 그 사이 번호도 모두 반영된 상태여야 하므로
+//   이 구독자에게 그 사이 다른 이벤트가 들어오지 않았을 때만 합친다 (아니면 따로 보냄, Last-Event-ID 재연결 시 유실 방지)
+// - 전송은 구독자마다 하나의 가상 스레드가 대기열을 비울 때까지 (느린 클라이언트는 자기 스레드만 붙잡는다)
+class LiveSubscriber {
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor sender;
+
+    private final ArrayDeque<LiveEvent> queue = new ArrayDeque<>();
+    private final Map<Long, LiveEvent> pendingVotes = new LinkedHashMap<>();
+    private boolean dropped;
+    private long lastOffered; // 마지막으로 받은 이벤트 번호
+
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile boolean closed;
+
+    LiveSubscriber(SseEmitter emitter, int capacity, Executor sender) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.sender = sender;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    // 디스패처 스레드에서만 호출
+    void offer(LiveEvent event) {
+        if (closed) {
+            return;
+        }
+        synchronized (this) {
+            LiveEvent.VoteChanged vote = event.data() instanceof LiveEvent.VoteChanged changed ? changed : null;
+            LiveEvent old = vote == null ? null : pendingVotes.get(vote.postId());
+            if (vote != null && (old == null || old.sequence() == lastOffered)) {
+                // 합친 이벤트는 새 번호를 가지므로 맨 뒤로 다시 넣어 번호 순서를 유지한다 (pollNext 가 맨 앞만 봄)
+                pendingVotes.remove(vote.postId());
+                pendingVotes.put(vote.postId(), old == null ? event : event.withData(new LiveEvent.VoteChanged(
+                        vote.postId(), ((LiveEvent.VoteChanged) old.data()).delta() + vote.delta())));
+            } else {
+                // 추천이 아니거나, 합치면 그 사이 번호를 건너뛰게 되는 추천
+                if (queue.size() >= capacity) {
+                    queue.pollFirst();
+                    dropped = true;
+                }
+                queue.addLast(event);
+            }
+            lastOffered = event.sequence();
+        }
+        scheduleSend();
+    }
+
+    // 링 버퍼 밖에서 재연결했을 때
+    void markDropped() {
+        synchronized (this) {
+            dropped = true;
+        }
+        scheduleSend();
+    }
+
+    private void scheduleSend() {
+        if (sending.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                LiveEvent next;
+                boolean resync;
+                synchronized (this) {
+                    resync = dropped;
+                    dropped = false;
+                    next = resync ? null : pollNext();
+                }
+                if (resync) {
+                    emitter.send(SseEmitter.event().name(LiveEvent.RESYNC).data(Map.of(), MediaType.APPLICATION_JSON));
+                    continue;
+                }
+                if (next == null) {
+                    break;
+                }
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(next.sequence()))
+                        .name(next.type())
+                        .data(next.data(), MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊김 (브라우저 종료 등)
+            closed = true;
+            emitter.completeWithError(e);
+        } finally {
+            sending.set(false);
+        }
+        // 비우는 사이에 들어온 이벤트
+        if (!closed && hasPending()) {
+            scheduleSend();
+        }
+    }
+
+    // 큐의 이벤트와 합쳐 둔 추천 변화 중 번호가 빠른 것부터
+    private LiveEvent pollNext() {
+        LiveEvent head = queue.peekFirst();
+        LiveEvent vote = pendingVotes.isEmpty() ? null : pendingVotes.values().iterator().next();
+        if (vote != null && (head == null || vote.sequence() < head.sequence())) {
+            return pendingVotes.remove(((LiveEvent.VoteChanged) vote.data()).postId());
+        }
+        return queue.pollFirst();
+    }
+
+    private synchronized boolean hasPending() {
+        return dropped || !queue.isEmpty() || !pendingVotes.isEmpty();
+    }
+
+    // 연결 유지용 주석 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리)
+    void heartbeat() {
+        if (closed || sending.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().comment("ping"));
+        } catch (IOException | IllegalStateException e) {
+            closed = true;
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.oak.server.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 애플리케이션 전체의 PasswordEncoder (로그인, 회원 가입, 비밀번호 변경, 탈퇴)
+// - 해시는 전용 스레드 풀(password.hash.threads)에서만 계산한다. 로그인이 몰려도 CPU 를 쓰는 스레드 수가 고정되어
+//   나머지 API(피드 조회 등)가 굶지 않는다
+// - 대기열(password.hash.queue-capacity)이 가득 차거나 wait-timeout 안에 끝나지 않으면 429 (PasswordHashingBusyException)
+// - 저장 형식은 {bcrypt}... / {argon2}... (DelegatingPasswordEncoder). 접두어 없는 기존 BCrypt 해시도 그대로 확인하고,
+//   로그인에 성공하면 UserSecurityService.updatePassword 로 현재 알고리즘/강도로 다시 저장된다
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final Duration waitTimeout;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(MeterRegistry meterRegistry,
+                                  @Value("${password.hash.algorithm:bcrypt}") String algorithm,
+                                  @Value("${password.hash.auto-tune:true}") boolean autoTune,
+                                  @Value("${password.hash.target:250ms}") Duration target,
+                                  @Value("${password.hash.bcrypt.strength:10}") int bcryptStrength,
+                                  @Value("${password.hash.bcrypt.max-strength:14}") int bcryptMaxStrength,
+                                  @Value("${password.hash.argon2.memory-kb:19456}") int argon2MemoryKb,
+                                  @Value("${password.hash.argon2.iterations:2}") int argon2Iterations,
+                                  @Value("${password.hash.argon2.max-iterations:10}") int argon2MaxIterations,
+                                  @Value("${password.hash.threads:0}") int threads,
+                                  @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                                  @Value("${password.hash.wait-timeout:5s}") Duration waitTimeout) {
+        // 설정값은 하한, 자동 조정은 그 위로만 올린다
+        boolean argon2 = "argon2".equals(algorithm);
+        int strength = autoTune && !argon2
+                ? PasswordHashTuner.bcryptStrength(bcryptStrength, bcryptMaxStrength, target) : bcryptStrength;
+        int iterations = autoTune && argon2
+                ? PasswordHashTuner.argon2Iterations(argon2Iterations, argon2MaxIterations, argon2MemoryKb, target)
+                : argon2Iterations;
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(argon2 ? "argon2" : "bcrypt", Map.of(
+                "bcrypt", new BCryptPasswordEncoder(strength),
+                "argon2", PasswordHashTuner.argon2(argon2MemoryKb, iterations)));
+        // 접두어 없는 기존 해시는 BCrypt (강도는 해시에 들어 있음)
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        this.delegate = encoder;
+        this.waitTimeout = waitTimeout;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password-hash");
+
+        // oak.password.hash{op=encode|matches}, oak.password.hash.rejected
+        this.encodeTimer = Timer.builder("oak.password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("oak.password.hash").tag("op", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("oak.password.hash.rejected").register(meterRegistry);
+        log.info("비밀번호 해시: {} (bcrypt cost {}, argon2 {} KB x {}), 스레드 {}, 대기열 {}",
+                algorithm, strength, argon2MemoryKb, iterations, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // 해시 계산이 없으므로 호출한 스레드에서 바로
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(1);
+        }
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException(Math.max(1, waitTimeout.toSeconds()));
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package com.oak.server.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+// 기동 시 이 서버에서 해시 1건이 목표 시간(password.hash.target) 안에 끝나는 가장 높은 강도를 고른다
+// - bcrypt: cost (1 오를 때마다 약 2배)
+// - argon2: 메모리는 고정하고 반복 횟수
+// 강도를 올리면 기존 해시는 다음 로그인 때 새 강도로 다시 저장된다 (upgradeEncoding)
+@Slf4j
+final class PasswordHashTuner {
+
+    private static final String SAMPLE = "password-hash-tuning-sample";
+    private static final int SAMPLES = 3;
+
+    private PasswordHashTuner() {
+    }
+
+    static int bcryptStrength(int min, int max, Duration target) {
+        return tune("bcrypt cost", min, max, target, BCryptPasswordEncoder::new);
+    }
+
+    static int argon2Iterations(int min, int max, int memoryKb, Duration target) {
+        return tune("argon2 iterations", min, max, target, iterations -> argon2(memoryKb, iterations));
+    }
+
+    static Argon2PasswordEncoder argon2(int memoryKb, int iterations) {
+        return new Argon2PasswordEncoder(16, 32, 1, memoryKb, iterations);
+    }
+
+    // min 은 목표를 넘어도 그대로 쓴다 (보안 하한)
+    private static int tune(String label, int min, int max, Duration target, IntFunction<PasswordEncoder> factory) {
+        int chosen = min;
+        for (int value = min; value <= max; value++) {
+            long nanos = medianEncodeNanos(factory.apply(value));
+            log.info("비밀번호 해시 측정: {} {} -> {} ms", label, value, nanos / 1_000_000);
+            if (nanos > target.toNanos()) {
+                break;
+            }
+            chosen = value;
+        }
+        log.info("비밀번호 해시 강도 선택: {} {} (목표 {} ms)", label, chosen, target.toMillis());
+        return chosen;
+    }
+
+    private static long medianEncodeNanos(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE); // 워밍업
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,22 @@
+package com.oak.server.repository;
+
+import com.oak.server.domain.AccountPurge;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountPurgeRepository extends JpaRepository<AccountPurge, Long> {
+
+    // 끝나지 않은 정리 작업 (재시작 / 실패 후 재개)
+    List<AccountPurge> findByCompletedAtIsNull();
+
+    // 묶음 하나를 처리하는 동안 정리 행 잠금 (다른 인스턴스가 같은 회원을 동시에 정리하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountPurge a where a.userId = :userId")
+    Optional<AccountPurge> findForStep(@Param("userId") Long userId);
+}
@@ -0,0 +1,38 @@
+package com.oak.server.repository;
+
+import com.oak.server.domain.BoardStats;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BoardStatsRepository extends JpaRepository<BoardStats, Long> {
+
+    // 전체 글 수 (PK 조회)
+    @Query(value = "select post_count from board_stats where id = 1", nativeQuery = true)
+    Optional<Long> findPostCount();
+
+    // 글 작성/삭제와 같은 트랜잭션에서 증감
+    // 행 하나라 글 작성끼리는 커밋까지 이 행에서 줄을 서지만, 작성/삭제는 추천/조회보다 훨씬 드물다
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.BOARD_STATS))
+    @Query(value = "update board_stats set post_count = post_count + :delta where id = 1", nativeQuery = true)
+    void addPostCount(@Param("delta") long delta);
+
+    // 행이 없으면 현재 글 수로 만든다 (도입 직후 한 번, 이미 있으면 아무것도 하지 않음)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.BOARD_STATS))
+    @Query(value = "insert into board_stats (id, post_count) select 1, (select count(*) from post) from dual " +
+            "where not exists (select 1 from board_stats where id = 1)", nativeQuery = true)
+    int initializeMissing();
+
+    // 전체 재계산 (user.recount-activity-on-startup, 부하 테스트 데이터 생성 후)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.BOARD_STATS))
+    @Query(value = "update board_stats set post_count = (select count(*) from post) where id = 1", nativeQuery = true)
+    int recountPosts();
+}
@@ -0,0 +1,31 @@
+package com.oak.server.repository;
+
+import com.oak.server.domain.FileRelease;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface FileReleaseRepository extends JpaRepository<FileRelease, String> {
+
+    // 삭제 시각이 지난 파일 키를 limit 개씩 (오래된 순)
+    @Query(value = "select storage_key from file_release where release_after <= :now order by release_after limit :limit",
+            nativeQuery = true)
+    List<String> findDueKeys(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 정리할 행 잠금 (같은 키를 다시 쓰려는 cancel 과 순서를 맞춤)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from FileRelease f where f.key = :key")
+    Optional<FileRelease> findForRelease(@Param("key") String key);
+
+    // 삭제 대기 취소 (정리 중인 행이면 그 트랜잭션이 끝날 때까지 기다린다)
+    @Modifying
+    @Query("delete from FileRelease f where f.key = :key")
+    int cancel(@Param("key") String key);
+}
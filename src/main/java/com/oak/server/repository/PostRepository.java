@@ -2,16 +2,39 @@ package com.oak.server.repository;
 
 import com.oak.server.domain.Post;
 import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.LikedPost;
+import com.oak.server.dto.PostDetail;
+import com.oak.server.dto.PostSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 목록용 요약 프로젝션 (작성자 이름, 댓글 수, 추천 수를 한 문장으로 조회)
+    // 이미지는 썸네일/아바타를 우선하고, 아직 만들어지지 않았으면 원본
+    String SUMMARY_FIELDS = "p.id, p.title, substring(p.content, 1, 200), coalesce(p.thumbnailPath, p.filePath), " +
+            "p.createDate, p.view, a.username, coalesce(a.profileThumbPath, a.profileImg), size(p.replyList), p.voteCount, " +
+            "p.revision";
+
+    String SUMMARY = "select new com.oak.server.dto.PostSummary(" + SUMMARY_FIELDS + ") " +
+            "from Post p left join p.author a ";
+
+    // 추천한 글 요약 (추천 시각 포함, post_voter 의 (voter_id, createDate, post_id) 인덱스에서 시작)
+    String LIKED = "select new com.oak.server.dto.LikedPost(" + SUMMARY_FIELDS + ", v.createDate) " +
+            "from PostVote v join v.post p left join p.author a ";
+
     @Query("select distinct p from Post p " +
             "left outer join SiteUser u on p.author=u " +
             "where p.title like %:kw% " +
@@ -19,9 +42,194 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "or u.username like %:kw%")
     Page<Post> findAllByKeyword(@Param("kw") String kw, Pageable pageable);
 
-    // 내가 쓴 글 찾기
-    List<Post> findByAuthor(SiteUser author);
+    // 목록 조회 (요약)
+    @Query(value = SUMMARY, countQuery = "select count(p) from Post p")
+    Page<PostSummary> findSummaries(Pageable pageable);
+
+    // 검색 결과 id 로 요약 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query(SUMMARY + "where p.id in :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 상세 조회 (댓글 목록 제외)
+    @Query("select new com.oak.server.dto.PostDetail(" +
+            "p.id, p.title, p.content, p.fileName, p.filePath, p.createDate, p.modifyDate, p.view, " +
+            "a.username, coalesce(a.profileThumbPath, a.profileImg), size(p.replyList), p.voteCount, " +
+            "p.revision, coalesce(p.revisedAt, p.modifyDate, p.createDate)) " +
+            "from Post p left join p.author a " +
+            "where p.id = :id")
+    Optional<PostDetail> findDetailById(@Param("id") Long id);
+
+    // 추천 토글 동안 글 행 잠금 (없는 글이면 빈 결과)
+    // 같은 회원의 연속 요청이 둘 다 빈 DELETE 후 INSERT 하거나, 빈 DELETE 의 갭 잠금끼리 교착되지 않도록 토글을 글 단위로 줄 세운다
+    // (추천 수 UPDATE 가 어차피 이 행을 잠그므로 잠금을 앞당길 뿐 경합이 늘지는 않음)
+    @Query(value = "select id from post where id = :id for update", nativeQuery = true)
+    Optional<Long> lockForVote(@Param("id") Long id);
+
+    // 추천 수 증감 (엔티티를 읽지 않고 컬럼만 갱신)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update post set vote_count = vote_count + :delta, revision = revision + 1, revised_at = :now " +
+            "where id = :id", nativeQuery = true)
+    void addVoteCount(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // 주어진 글들의 추천 수 1 감소 (탈퇴 정리: 그 회원이 추천한 글 한 묶음)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update post set vote_count = vote_count - 1, revision = revision + 1, revised_at = :now " +
+            "where id in :ids", nativeQuery = true)
+    void decreaseVoteCounts(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 응답 버전 올리기 (글 수정, 댓글 작성/수정/삭제/추천)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update post set revision = revision + 1, revised_at = :now where id = :id", nativeQuery = true)
+    void touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 주어진 댓글들이 달린 글 (탈퇴 정리: 댓글 삭제 / 댓글 추천 취소 한 묶음)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update post set revision = revision + 1, revised_at = :now " +
+            "where id in (select r.post_id from reply r where r.id in :replyIds)", nativeQuery = true)
+    void touchByReplies(@Param("replyIds") Collection<Long> replyIds, @Param("now") LocalDateTime now);
+
+    // 회원이 쓴 글과 댓글을 단 글 (프로필 사진 변경)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update post set revision = revision + 1, revised_at = :now " +
+            "where author_id = :userId or id in (select r.post_id from reply r where r.author_id = :userId)",
+            nativeQuery = true)
+    void touchByUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 조건부 GET 버전 확인용 (본문 없이 id, revision 만)
+    interface Revision {
+        Long getId();
+
+        long getRevision();
+    }
+
+    @Query("select p.id as id, p.revision as revision from Post p")
+    Slice<Revision> findRevisions(Pageable pageable);
+
+    // 현재 조회수 (읽기 캐시에는 조회수를 두지 않으므로 꺼낼 때마다 PK 로 따로 읽음)
+    interface ViewCount {
+        Long getId();
+
+        int getView();
+    }
+
+    @Query("select p.id as id, p.view as view from Post p where p.id in :ids")
+    List<ViewCount> findViews(@Param("ids") Collection<Long> ids);
+
+    interface DetailRevision {
+        long getRevision();
+
+        LocalDateTime getRevisedAt();
+
+        LocalDateTime getModifyDate();
+
+        LocalDateTime getCreateDate();
+    }
+
+    @Query("select p.revision as revision, p.revisedAt as revisedAt, " +
+            "p.modifyDate as modifyDate, p.createDate as createDate from Post p where p.id = :id")
+    Optional<DetailRevision> findRevisionById(@Param("id") Long id);
+
+    // 추천 수 재계산 (기존 데이터 전환 / 보정용)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update post p set vote_count = (select count(*) from post_voter v where v.post_id = p.id)",
+            nativeQuery = true)
+    int recountVotes();
+
+    // 피드 첫 페이지 (커서 없음)
+    @Query(SUMMARY + "order by p.createDate desc, p.id desc")
+    Slice<PostSummary> findFeed(Pageable pageable);
+
+    // 피드 다음 페이지: (createDate, id) 기준으로 커서 이후의 글만 seek (OFFSET, count 쿼리 없음)
+    @Query(SUMMARY +
+            "where p.createDate < :createDate " +
+            "or (p.createDate = :createDate and p.id < :id) " +
+            "order by p.createDate desc, p.id desc")
+    Slice<PostSummary> findFeedAfter(@Param("createDate") LocalDateTime createDate,
+                              @Param("id") Long id,
+                              Pageable pageable);
+
+    // MySQL FULLTEXT(ngram) 검색 - 관련도 순 (search.engine=database, search.database.fulltext=true)
+    @Query(value = "select p.id as id, match(p.title, p.content) against (:kw in natural language mode) as score " +
+            "from post p " +
+            "where match(p.title, p.content) against (:kw in natural language mode) " +
+            "order by score desc",
+            countQuery = "select count(*) from post p " +
+                    "where match(p.title, p.content) against (:kw in natural language mode)",
+            nativeQuery = true)
+    Page<FulltextMatch> searchFulltext(@Param("kw") String kw, Pageable pageable);
+
+    interface FulltextMatch {
+        Long getId();
+
+        Double getScore();
+    }
+
+    // 첨부 파일 참조 여부 (파일 정리용)
+    boolean existsByFilePath(String filePath);
+
+    boolean existsByThumbnailPath(String thumbnailPath);
+
+    // 썸네일 기록 (원본이 그대로일 때만)
+    @Modifying
+    @Query("update Post p set p.thumbnailPath = :thumbnailPath, p.revision = p.revision + 1, p.revisedAt = :now " +
+            "where p.id = :id and p.filePath = :filePath")
+    int updateThumbnailPath(@Param("id") Long id,
+                            @Param("filePath") String filePath,
+                            @Param("thumbnailPath") String thumbnailPath,
+                            @Param("now") LocalDateTime now);
+
+    // 첨부 파일이 바뀌거나 지워질 때 썸네일 해제
+    @Modifying
+    @Query("update Post p set p.thumbnailPath = null where p.id = :id")
+    void clearThumbnailPath(@Param("id") Long id);
+
+    // 탈퇴 정리: 회원이 쓴 글 id 를 limit 개씩 ((author_id, createDate, id) 인덱스)
+    @Query(value = "select id from post where author_id = :authorId limit :limit", nativeQuery = true)
+    List<Long> findIdsByAuthor(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    // 삭제할 글들에 첨부된 파일 경로 (커밋 후 파일 정리용)
+    @Query("select p.filePath from Post p where p.id in :ids and p.filePath is not null")
+    List<String> findFilePathsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.thumbnailPath from Post p where p.id in :ids and p.thumbnailPath is not null")
+    List<String> findThumbnailPathsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 탈퇴 정리: 엔티티를 읽지 않고 한 번에 삭제 (댓글/추천은 먼저 지움)
+    @Modifying
+    @Query("delete from Post p where p.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 내가 쓴 글 첫 묶음 (최신순, (author_id, createDate, id) 인덱스)
+    @Query(SUMMARY + "where p.author.id = :authorId order by p.createDate desc, p.id desc")
+    Slice<PostSummary> findAuthored(@Param("authorId") Long authorId, Pageable pageable);
+
+    // 다음 묶음: 커서 이후만 seek
+    @Query(SUMMARY +
+            "where p.author.id = :authorId " +
+            "and (p.createDate < :createDate or (p.createDate = :createDate and p.id < :id)) " +
+            "order by p.createDate desc, p.id desc")
+    Slice<PostSummary> findAuthoredAfter(@Param("authorId") Long authorId,
+                                         @Param("createDate") LocalDateTime createDate,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // 내가 추천한 글 첫 묶음 (최근 추천순)
+    @Query(LIKED + "where v.id.voterId = :voterId order by v.createDate desc, p.id desc")
+    Slice<LikedPost> findLiked(@Param("voterId") Long voterId, Pageable pageable);
 
-    // 내가 좋아요 누른 글 찾기
-    List<Post> findByVoterContains(SiteUser voter);
+    // 다음 묶음: (추천 시각, 글 id) 커서 이후만 seek
+    @Query(LIKED +
+            "where v.id.voterId = :voterId " +
+            "and (v.createDate < :likedAt or (v.createDate = :likedAt and p.id < :id)) " +
+            "order by v.createDate desc, p.id desc")
+    Slice<LikedPost> findLikedAfter(@Param("voterId") Long voterId,
+                                    @Param("likedAt") LocalDateTime likedAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
 }
@@ -0,0 +1,65 @@
+package com.oak.server.repository;
+
+import com.oak.server.domain.PostVote;
+import com.oak.server.domain.VoteId;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PostVoteRepository extends JpaRepository<PostVote, VoteId> {
+
+    // 추천 취소 (삭제된 행 수로 토글 방향 판단)
+    @Modifying
+    @Query("delete from PostVote v where v.id.targetId = :postId and v.id.voterId = :voterId")
+    int deleteVote(@Param("postId") Long postId, @Param("voterId") Long voterId);
+
+    // 추천 시각 (취소 전에 읽음, 예전 추천은 시각이 없을 수 있음)
+    @Query("select v.createDate from PostVote v where v.id.targetId = :postId and v.id.voterId = :voterId")
+    Optional<LocalDateTime> findVoteDate(@Param("postId") Long postId, @Param("voterId") Long voterId);
+
+    // 추천 (엔티티 로딩 없이 바로 INSERT, 동시 중복 추천은 PK 가 막는다)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.POST_VOTER))
+    @Query(value = "insert into post_voter (post_id, voter_id, create_date) values (:postId, :voterId, :createDate)",
+            nativeQuery = true)
+    void insertVote(@Param("postId") Long postId, @Param("voterId") Long voterId,
+                    @Param("createDate") LocalDateTime createDate);
+
+    // 주어진 글 중 해당 사용자가 추천한 글 id
+    @Query("select v.id.targetId from PostVote v where v.id.targetId in :ids and v.voter.username = :username")
+    List<Long> findVotedPostIds(@Param("ids") Collection<Long> ids, @Param("username") String username);
+
+    // 글 삭제 시 추천 일괄 삭제
+    @Modifying
+    @Query("delete from PostVote v where v.id.targetId = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
+
+    // 탈퇴 정리: 그 회원이 추천한 글 id 를 limit 개씩 ((voter_id, createDate, post_id) 인덱스)
+    @Query(value = "select post_id from post_voter where voter_id = :voterId limit :limit", nativeQuery = true)
+    List<Long> findPostIdsVotedBy(@Param("voterId") Long voterId, @Param("limit") int limit);
+
+    // 탈퇴 정리: 그 회원의 추천 중 주어진 글 것만 삭제
+    @Modifying
+    @Query("delete from PostVote v where v.id.voterId = :voterId and v.id.targetId in :postIds")
+    int deleteVotes(@Param("voterId") Long voterId, @Param("postIds") Collection<Long> postIds);
+
+    // 추천 시각이 없는 예전 추천을 글 작성 시각으로 채움 (추천한 글 목록 커서용, 보정 시 한 번)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.POST_VOTER))
+    @Query(value = "update post_voter v set create_date = (select p.create_date from post p where p.id = v.post_id) " +
+            "where v.create_date is null", nativeQuery = true)
+    int fillMissingCreateDates();
+
+    // 탈퇴 정리: 삭제할 글들에 달린 추천
+    @Modifying
+    @Query("delete from PostVote v where v.id.targetId in :postIds")
+    void deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -0,0 +1,24 @@
+package com.oak.server.repository;
+
+import org.hibernate.jpa.HibernateHints;
+
+// 네이티브 UPDATE/INSERT 가 2차 캐시에서 무엇을 무효화할지 (@QueryHints 로 선언)
+// 선언하지 않으면 Hibernate 는 어떤 테이블이 바뀌었는지 몰라 모든 캐시 영역을 비운다 (추천 한 번에 회원/글 캐시 전체 삭제)
+public final class QuerySpaces {
+
+    public static final String HINT = HibernateHints.HINT_NATIVE_SPACES;
+
+    // 엔티티로는 읽지 않는 카운터 컬럼만 바꾸는 문장 (post.vote_count/revision/revised_at, site_user.post_count 등)
+    // 캐시된 Post/SiteUser 의 이 값들은 만료 전까지 늦을 수 있으므로 카운터는 항상 프로젝션/읽기 모델로 읽는다
+    // (조회수는 ViewCountBuffer 가 JDBC 로 직접 올리므로 처음부터 Hibernate 를 거치지 않음)
+    public static final String COUNTERS = "oak_counters";
+
+    // 캐시하지 않는 테이블 (해당 테이블만 무효화)
+    public static final String POST_VOTER = "post_voter";
+    public static final String REPLY = "reply";
+    public static final String REPLY_VOTER = "reply_voter";
+    public static final String BOARD_STATS = "board_stats";
+
+    private QuerySpaces() {
+    }
+}
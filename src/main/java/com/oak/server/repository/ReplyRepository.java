@@ -1,16 +1,98 @@
 package com.oak.server.repository;
 
 import com.oak.server.domain.Reply;
-import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.MyReply;
+import com.oak.server.dto.ReplyResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
+    // 댓글 읽기 모델 프로젝션 (추천자 목록 없이 추천 수만)
+    String RESPONSE = "select new com.oak.server.dto.ReplyResponse(" +
+            "r.id, r.post.id, r.content, r.createDate, a.username, " +
+            "coalesce(a.profileThumbPath, a.profileImg), r.voteCount) " +
+            "from Reply r left join r.author a ";
+
     // PostId 일치하는 모든 댓글
     List<Reply> findAllByPostId(Long postId);
 
-    // 내가 쓴 댓글 찾기
-    List<Reply> findByAuthor(SiteUser author);
+    // 특정 게시글의 댓글 첫 묶음 (오래된 순)
+    @Query(RESPONSE + "where r.post.id = :postId order by r.createDate asc, r.id asc")
+    Slice<ReplyResponse> findThread(@Param("postId") Long postId, Pageable pageable);
+
+    // 다음 묶음: (post_id, createDate, id) 인덱스를 따라 커서 이후만 seek (OFFSET, count 쿼리 없음)
+    @Query(RESPONSE +
+            "where r.post.id = :postId " +
+            "and (r.createDate > :createDate or (r.createDate = :createDate and r.id > :id)) " +
+            "order by r.createDate asc, r.id asc")
+    Slice<ReplyResponse> findThreadAfter(@Param("postId") Long postId,
+                                         @Param("createDate") LocalDateTime createDate,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // 추천 토글 동안 댓글 행 잠금 (PostRepository.lockForVote 와 같은 이유), 댓글이 달린 글 id 를 돌려준다 (없는 댓글이면 빈 결과)
+    @Query(value = "select post_id from reply where id = :id for update", nativeQuery = true)
+    Optional<Long> lockForVote(@Param("id") Long id);
+
+    // 추천 수 증감 (엔티티를 읽지 않고 컬럼만 갱신)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.REPLY))
+    @Query(value = "update reply set vote_count = vote_count + :delta where id = :id", nativeQuery = true)
+    void addVoteCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 주어진 댓글들의 추천 수 1 감소 (탈퇴 정리: 그 회원이 추천한 댓글 한 묶음)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.REPLY))
+    @Query(value = "update reply set vote_count = vote_count - 1 where id in :ids", nativeQuery = true)
+    void decreaseVoteCounts(@Param("ids") Collection<Long> ids);
+
+    // 탈퇴 정리: 회원이 쓴 댓글 id 를 limit 개씩 ((author_id, createDate, id) 인덱스)
+    @Query(value = "select id from reply where author_id = :authorId limit :limit", nativeQuery = true)
+    List<Long> findIdsByAuthor(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    // 탈퇴 정리: 엔티티를 읽지 않고 한 번에 삭제 (추천은 먼저 지움)
+    @Modifying
+    @Query("delete from Reply r where r.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 탈퇴 정리: 삭제할 글들에 달린 댓글
+    @Modifying
+    @Query("delete from Reply r where r.post.id in :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 추천 수 재계산 (기존 데이터 전환 / 보정용)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.REPLY))
+    @Query(value = "update reply r set vote_count = (select count(*) from reply_voter v where v.reply_id = r.id)",
+            nativeQuery = true)
+    int recountVotes();
+
+    // 내가 쓴 댓글 (원문 제목 포함, 최신순, (author_id, createDate, id) 인덱스)
+    String MY_REPLY = "select new com.oak.server.dto.MyReply(" +
+            "r.id, p.id, p.title, r.content, r.createDate, r.voteCount) " +
+            "from Reply r join r.post p ";
+
+    @Query(MY_REPLY + "where r.author.id = :authorId order by r.createDate desc, r.id desc")
+    Slice<MyReply> findAuthored(@Param("authorId") Long authorId, Pageable pageable);
+
+    @Query(MY_REPLY +
+            "where r.author.id = :authorId " +
+            "and (r.createDate < :createDate or (r.createDate = :createDate and r.id < :id)) " +
+            "order by r.createDate desc, r.id desc")
+    Slice<MyReply> findAuthoredAfter(@Param("authorId") Long authorId,
+                                     @Param("createDate") LocalDateTime createDate,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
 }
@@ -0,0 +1,63 @@
+package com.oak.server.repository;
+
+import com.oak.server.domain.ReplyVote;
+import com.oak.server.domain.VoteId;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReplyVoteRepository extends JpaRepository<ReplyVote, VoteId> {
+
+    // 추천 취소 (삭제된 행 수로 토글 방향 판단)
+    @Modifying
+    @Query("delete from ReplyVote v where v.id.targetId = :replyId and v.id.voterId = :voterId")
+    int deleteVote(@Param("replyId") Long replyId, @Param("voterId") Long voterId);
+
+    // 추천 (엔티티 로딩 없이 바로 INSERT, 동시 중복 추천은 PK 가 막는다)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.REPLY_VOTER))
+    @Query(value = "insert into reply_voter (reply_id, voter_id, create_date) values (:replyId, :voterId, :createDate)",
+            nativeQuery = true)
+    void insertVote(@Param("replyId") Long replyId, @Param("voterId") Long voterId,
+                    @Param("createDate") LocalDateTime createDate);
+
+    // 주어진 댓글 중 해당 사용자가 추천한 댓글 id
+    @Query("select v.id.targetId from ReplyVote v where v.id.targetId in :ids and v.voter.username = :username")
+    List<Long> findVotedReplyIds(@Param("ids") Collection<Long> ids, @Param("username") String username);
+
+    // 댓글 삭제 시 추천 일괄 삭제
+    @Modifying
+    @Query("delete from ReplyVote v where v.id.targetId = :replyId")
+    void deleteAllByReplyId(@Param("replyId") Long replyId);
+
+    // 글 삭제 시 그 글에 달린 댓글들의 추천 일괄 삭제
+    @Modifying
+    @Query("delete from ReplyVote v where v.id.targetId in (select r.id from Reply r where r.post.id = :postId)")
+    void deleteAllByPostId(@Param("postId") Long postId);
+
+    // 탈퇴 정리: 그 회원이 추천한 댓글 id 를 limit 개씩
+    @Query(value = "select reply_id from reply_voter where voter_id = :voterId limit :limit", nativeQuery = true)
+    List<Long> findReplyIdsVotedBy(@Param("voterId") Long voterId, @Param("limit") int limit);
+
+    // 탈퇴 정리: 그 회원의 추천 중 주어진 댓글 것만 삭제
+    @Modifying
+    @Query("delete from ReplyVote v where v.id.voterId = :voterId and v.id.targetId in :replyIds")
+    int deleteVotes(@Param("voterId") Long voterId, @Param("replyIds") Collection<Long> replyIds);
+
+    // 탈퇴 정리: 삭제할 댓글들에 달린 추천
+    @Modifying
+    @Query("delete from ReplyVote v where v.id.targetId in :replyIds")
+    void deleteAllByReplyIdIn(@Param("replyIds") Collection<Long> replyIds);
+
+    // 탈퇴 정리: 삭제할 글들에 달린 댓글의 추천
+    @Modifying
+    @Query("delete from ReplyVote v where v.id.targetId in (select r.id from Reply r where r.post.id in :postIds)")
+    void deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -0,0 +1,14 @@
+package com.oak.server.repository;
+
+import com.oak.server.domain.TrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long> {
+
+    // 스냅샷 전체 교체 (엔티티를 읽지 않고 한 번에 삭제)
+    @Modifying
+    @Query("delete from TrendingScore")
+    int deleteAllScores();
+}
@@ -0,0 +1,11 @@
+package com.oak.server.repository;
+
+import com.oak.server.domain.SiteUser;
+
+import java.util.Optional;
+
+// 아이디(username)로 회원 조회 - 거의 모든 요청에서 호출되므로 자연 키 캐시를 거친다
+public interface UserNaturalIdRepository {
+
+    Optional<SiteUser> findByUsername(String username);
+}
@@ -0,0 +1,26 @@
+package com.oak.server.repository;
+
+import com.oak.server.domain.SiteUser;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// 파생 쿼리(select ... where username = ?) 대신 Hibernate 자연 키 조회
+// username -> id 는 자연 키 캐시, id -> 회원은 엔티티 캐시에서 찾으므로 둘 다 적중하면 DB 를 읽지 않는다
+// (JWT 필터처럼 요청 EntityManager 가 없는 곳에서도 Session 이 열려 있도록 읽기 전용 트랜잭션 안에서 조회)
+@RequiredArgsConstructor
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SiteUser> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(SiteUser.class)
+                .loadOptional(username);
+    }
+}
@@ -1,10 +1,99 @@
 package com.oak.server.repository;
 
 import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.UserStats;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<SiteUser, Long> {
-    Optional<SiteUser> findByUsername(String username);
+// findByUsername 은 UserNaturalIdRepository (자연 키 캐시) 에서
+public interface UserRepository extends JpaRepository<SiteUser, Long>, UserNaturalIdRepository {
+
+    // 프로필 이미지 참조 여부 (파일 정리용)
+    boolean existsByProfileImg(String profileImg);
+
+    boolean existsByProfileThumbPath(String profileThumbPath);
+
+    // 아바타 기록 (프로필 이미지가 그대로일 때만)
+    @Modifying
+    @Query("update SiteUser u set u.profileThumbPath = :thumbPath where u.id = :id and u.profileImg = :profileImg")
+    int updateProfileThumbPath(@Param("id") Long id,
+                               @Param("profileImg") String profileImg,
+                               @Param("thumbPath") String thumbPath);
+
+    // 프로필 이미지가 바뀌거나 지워질 때 아바타 해제
+    @Modifying
+    @Query("update SiteUser u set u.profileThumbPath = null where u.id = :id")
+    void clearProfileThumbPath(@Param("id") Long id);
+
+    // 활동 요약 (유지 중인 카운터 컬럼만 읽음)
+    @Query("select new com.oak.server.dto.UserStats(u.postCount, u.replyCount, u.likeCount) " +
+            "from SiteUser u where u.username = :username")
+    Optional<UserStats> findStatsByUsername(@Param("username") String username);
+
+    // 활동 수 증감 (엔티티를 읽지 않고 컬럼만 갱신)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update site_user set post_count = post_count + :delta where id = :id", nativeQuery = true)
+    void addPostCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update site_user set reply_count = reply_count + :delta where id = :id", nativeQuery = true)
+    void addReplyCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update site_user set like_count = like_count + :delta where id = :id", nativeQuery = true)
+    void addLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 글 삭제 시: 그 글들에 댓글을 단 회원들의 댓글 수 감소 (댓글 삭제 전에 호출)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update site_user u set reply_count = reply_count - " +
+            "(select count(*) from reply r where r.post_id in :postIds and r.author_id = u.id) " +
+            "where u.id in (select r.author_id from reply r where r.post_id in :postIds)", nativeQuery = true)
+    void decreaseReplyCountsOnPosts(@Param("postIds") Collection<Long> postIds);
+
+    // 글 삭제 시: 그 글들을 추천한 회원들의 추천한 글 수 감소 (추천 삭제 전에 호출)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update site_user u set like_count = like_count - " +
+            "(select count(*) from post_voter v where v.post_id in :postIds and v.voter_id = u.id) " +
+            "where u.id in (select v.voter_id from post_voter v where v.post_id in :postIds)", nativeQuery = true)
+    void decreaseLikeCountsOnPosts(@Param("postIds") Collection<Long> postIds);
+
+    // 탈퇴 정리 마지막 단계: 글/댓글/추천을 모두 지운 뒤 회원 행만 삭제 (cascade 컬렉션을 읽지 않음)
+    @Modifying
+    @Query("delete from SiteUser u where u.id = :id")
+    int deleteAccount(@Param("id") Long id);
+
+    // 활동 수 재계산 (기존 데이터 전환 / 보정용)
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update site_user u set " +
+            "post_count = (select count(*) from post p where p.author_id = u.id), " +
+            "reply_count = (select count(*) from reply r where r.author_id = u.id), " +
+            "like_count = (select count(*) from post_voter v where v.voter_id = u.id)", nativeQuery = true)
+    int recountActivity();
+
+    // 활동 수 컬럼이 아직 채워지지 않은 회원만 재계산 (세 값이 모두 0인데 실제 활동이 있는 회원)
+    // 컬럼 도입 직후 기존 회원을 채우고, 이미 채워진 회원은 건드리지 않으므로 기동할 때마다 돌려도 된다
+    @Modifying
+    @QueryHints(@QueryHint(name = QuerySpaces.HINT, value = QuerySpaces.COUNTERS))
+    @Query(value = "update site_user u set " +
+            "post_count = (select count(*) from post p where p.author_id = u.id), " +
+            "reply_count = (select count(*) from reply r where r.author_id = u.id), " +
+            "like_count = (select count(*) from post_voter v where v.voter_id = u.id) " +
+            "where u.post_count = 0 and u.reply_count = 0 and u.like_count = 0 " +
+            "and (exists (select 1 from post p where p.author_id = u.id) " +
+            "or exists (select 1 from reply r where r.author_id = u.id) " +
+            "or exists (select 1 from post_voter v where v.voter_id = u.id))", nativeQuery = true)
+    int recountMissingActivity();
 }
@@ -0,0 +1,114 @@
+package com.oak.server.search;
+
+import com.oak.server.domain.Post;
+import com.oak.server.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// DB 검색 엔진 (대체 구현)
+// - search.database.fulltext=true  : MySQL FULLTEXT(ngram) 인덱스로 관련도 순 검색
+// - search.database.fulltext=false : 기존 LIKE 검색 (H2 등 FULLTEXT 가 없는 DB)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "database")
+public class DatabasePostSearchService implements PostSearchService {
+
+    private static final String FULLTEXT_INDEX = "ft_post_title_content";
+    private static final int SNIPPET_LENGTH = 100;
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${search.database.fulltext:false}")
+    private boolean fulltext;
+
+    // FULLTEXT 인덱스는 ddl-auto 로 만들어지지 않으므로 기동 시 직접 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureFulltextIndex() {
+        if (!fulltext) {
+            return;
+        }
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics " +
+                        "where table_schema = database() and table_name = 'post' and index_name = ?",
+                Integer.class, FULLTEXT_INDEX);
+        if (count == null || count == 0) {
+            jdbcTemplate.execute("alter table post add fulltext index " + FULLTEXT_INDEX +
+                    " (title, content) with parser ngram");
+            log.info("FULLTEXT 인덱스 생성: {}", FULLTEXT_INDEX);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostSearchResult search(String kw, int page, int size) {
+        if (fulltext) {
+            Page<PostRepository.FulltextMatch> matches = postRepository.searchFulltext(kw, PageRequest.of(page, size));
+            Map<Long, Post> posts = postRepository.findAllById(
+                            matches.map(PostRepository.FulltextMatch::getId).getContent()).stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+            List<PostSearchHit> hits = new ArrayList<>();
+            for (PostRepository.FulltextMatch match : matches) {
+                Post post = posts.get(match.getId());
+                if (post != null) {
+                    hits.add(toHit(post, match.getScore().floatValue(), kw));
+                }
+            }
+            return new PostSearchResult(hits, matches.getTotalElements());
+        }
+
+        Page<Post> posts = postRepository.findAllByKeyword(kw,
+                PageRequest.of(page, size, Sort.by(Sort.Order.desc("createDate"))));
+        List<PostSearchHit> hits = posts.map(post -> toHit(post, 0f, kw)).getContent();
+        return new PostSearchResult(hits, posts.getTotalElements());
+    }
+
+    // DB 가 원본이므로 별도 색인 작업 없음
+    @Override
+    public void index(Post post) {
+    }
+
+    @Override
+    public void remove(Long postId) {
+    }
+
+    private PostSearchHit toHit(Post post, float score, String kw) {
+        return new PostSearchHit(post.getId(), score, highlight(post.getTitle(), kw), highlight(post.getContent(), kw));
+    }
+
+    // 키워드가 처음 나오는 위치 주변을 잘라 <mark> 로 감싼다
+    static String highlight(String text, String kw) {
+        if (text == null) {
+            return "";
+        }
+        int idx = text.toLowerCase(Locale.ROOT).indexOf(kw.toLowerCase(Locale.ROOT));
+        if (idx < 0) {
+            return HtmlUtils.htmlEscape(text.length() > SNIPPET_LENGTH ? text.substring(0, SNIPPET_LENGTH) : text);
+        }
+        int start = Math.max(0, idx - SNIPPET_LENGTH / 2);
+        int end = Math.min(text.length(), idx + kw.length() + SNIPPET_LENGTH / 2);
+        return HtmlUtils.htmlEscape(text.substring(start, idx))
+                + "<mark>" + HtmlUtils.htmlEscape(text.substring(idx, idx + kw.length())) + "</mark>"
+                + HtmlUtils.htmlEscape(text.substring(idx + kw.length(), end));
+    }
+}
@@ -0,0 +1,237 @@
+package com.oak.server.search;
+
+import com.oak.server.domain.Post;
+import com.oak.server.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 내장 역색인(Lucene) 검색 엔진. 한국어 형태소 분석기(Nori)로 제목/내용/작성자를 색인한다
+// - 글 변경은 NRT(near-real-time) 로 반영: IndexWriter 에 쓰고 SearcherManager 만 새로 고친다 (디스크 fsync 없음)
+// - 디스크 커밋은 commit-interval 마다 한 번 (비정상 종료 시 그 사이 변경은 재색인 전까지 검색에서 빠질 수 있음)
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene", matchIfMissing = true)
+public class LucenePostSearchService implements PostSearchService, DisposableBean {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String AUTHOR = "author";
+
+    private static final int REINDEX_CHUNK = 500;
+    private static final int SNIPPET_LENGTH = 100;
+
+    private final PostRepository postRepository;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public LucenePostSearchService(PostRepository postRepository,
+                                   @Value("${search.lucene.index-dir}") String indexDir) throws IOException {
+        this.postRepository = postRepository;
+        this.directory = FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // 색인이 비어 있으면 (최초 실행 / 색인 폴더 삭제) DB 에서 다시 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() throws IOException {
+        if (writer.getDocStats().numDocs > 0) {
+            return;
+        }
+        int page = 0;
+        Page<Post> chunk;
+        do {
+            chunk = postRepository.findAll(PageRequest.of(page++, REINDEX_CHUNK));
+            for (Post post : chunk) {
+                writer.updateDocument(new Term(ID, post.getId().toString()), toDocument(post));
+            }
+        } while (chunk.hasNext());
+        writer.commit();
+        searcherManager.maybeRefresh();
+        log.info("검색 색인 재구성 완료: {}건", writer.getDocStats().numDocs);
+    }
+
+    @Override
+    public PostSearchResult search(String kw, int page, int size) {
+        Query query;
+        try {
+            MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                    new String[]{TITLE, CONTENT, AUTHOR}, analyzer, Map.of(TITLE, 2.0f, CONTENT, 1.0f, AUTHOR, 1.0f));
+            query = parser.parse(QueryParser.escape(kw));
+        } catch (ParseException e) {
+            return PostSearchResult.empty();
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs top = searcher.search(query, (page + 1) * size);
+            Highlighter highlighter = new Highlighter(
+                    new SimpleHTMLFormatter("<mark>", "</mark>"), new SimpleHTMLEncoder(), new QueryScorer(query));
+
+            List<PostSearchHit> hits = new ArrayList<>();
+            ScoreDoc[] docs = top.scoreDocs;
+            for (int i = page * size; i < docs.length; i++) {
+                Document doc = searcher.storedFields().document(docs[i].doc);
+                hits.add(new PostSearchHit(
+                        Long.valueOf(doc.get(ID)),
+                        docs[i].score,
+                        highlight(highlighter, TITLE, doc.get(TITLE)),
+                        highlight(highlighter, CONTENT, doc.get(CONTENT))));
+            }
+            return new PostSearchResult(hits, top.totalHits.value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public void index(Post post) {
+        try {
+            writer.updateDocument(new Term(ID, post.getId().toString()), toDocument(post));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void indexAll(List<Post> posts) {
+        try {
+            for (Post post : posts) {
+                writer.updateDocument(new Term(ID, post.getId().toString()), toDocument(post));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        try {
+            writer.deleteDocuments(new Term(ID, postId.toString()));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<Long> postIds) {
+        try {
+            for (Long postId : postIds) {
+                writer.deleteDocuments(new Term(ID, postId.toString()));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close(); // 남은 변경 커밋
+        directory.close();
+    }
+
+    private Document toDocument(Post post) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, post.getId().toString(), Field.Store.YES));
+        doc.add(new TextField(TITLE, nullToEmpty(post.getTitle()), Field.Store.YES));
+        doc.add(new TextField(CONTENT, nullToEmpty(post.getContent()), Field.Store.YES));
+        if (post.getAuthor() != null) {
+            doc.add(new TextField(AUTHOR, post.getAuthor().getUsername(), Field.Store.NO));
+        }
+        return doc;
+    }
+
+    // 매칭된 부분이 없으면 앞부분만 잘라서 반환
+    private String highlight(Highlighter highlighter, String field, String text) throws IOException {
+        try {
+            String fragment = highlighter.getBestFragment(analyzer, field, text);
+            if (fragment != null) {
+                return fragment;
+            }
+        } catch (InvalidTokenOffsetsException e) {
+            log.warn("하이라이트 실패: {}", e.getMessage());
+        }
+        String snippet = text.length() > SNIPPET_LENGTH ? text.substring(0, SNIPPET_LENGTH) : text;
+        return SimpleHTMLEncoder.htmlEncode(snippet);
+    }
+
+    // 쌓인 변경을 디스크에 커밋 (fsync). 실패하면 다음 주기에 다시 시도
+    @Scheduled(fixedDelayString = "${search.lucene.commit-interval-ms:30000}")
+    public void commitPending() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.warn("검색 색인 커밋 실패: {}", e.getMessage());
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
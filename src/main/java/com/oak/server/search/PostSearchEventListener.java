@@ -0,0 +1,94 @@
+package com.oak.server.search;
+
+import com.oak.server.event.PostBatchEvent;
+import com.oak.server.event.PostEvent;
+import com.oak.server.event.PostPurgeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 커밋된 게시글 변경만 검색 색인에 반영
+// - 커밋 후 전용 스레드 하나에서 처리 (요청 응답을 색인 쓰기와 분리, 한 스레드라 같은 글의 변경 순서가 유지됨)
+// - 색인 실패는 이미 커밋된 요청을 실패시키지 않고 로그/지표로만 남긴다
+@Slf4j
+@Component
+public class PostSearchEventListener {
+
+    private final PostSearchService postSearchService;
+    private final ExecutorService executor;
+
+    private final Counter rejected;
+    private final Counter failed;
+
+    public PostSearchEventListener(PostSearchService postSearchService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${search.index.queue-capacity:10000}") int queueCapacity) {
+        this.postSearchService = postSearchService;
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-index");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "search-index");
+
+        this.rejected = Counter.builder("oak.search.index").tag("result", "rejected").register(meterRegistry);
+        this.failed = Counter.builder("oak.search.index").tag("result", "failed").register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        Long postId = event.getPost().getId();
+        if (event.getType() == PostEvent.Type.DELETED) {
+            submit("글 " + postId, () -> postSearchService.remove(postId));
+        } else {
+            submit("글 " + postId, () -> postSearchService.index(event.getPost()));
+        }
+    }
+
+    // 일괄 등록은 묶음 단위로 한 번에
+    @TransactionalEventListener
+    public void onPostBatchEvent(PostBatchEvent event) {
+        submit("일괄 등록 " + event.getPosts().size() + "건", () -> postSearchService.indexAll(event.getPosts()));
+    }
+
+    // 탈퇴 정리로 지워진 글 묶음
+    @TransactionalEventListener
+    public void onPostPurgeEvent(PostPurgeEvent event) {
+        submit("탈퇴 정리 " + event.getPostIds().size() + "건", () -> postSearchService.removeAll(event.getPostIds()));
+    }
+
+    private void submit(String target, Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    log.warn("검색 색인 반영 실패: {} ({})", target, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("검색 색인 큐가 가득 차 건너뜁니다: {}", target);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,14 @@
+package com.oak.server.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 결과 1건 (하이라이트는 HTML 이스케이프 후 <mark> 로 감싼 조각)
+@Getter
+@AllArgsConstructor
+public class PostSearchHit {
+    private Long postId;
+    private float score;
+    private String titleHighlight;
+    private String contentHighlight;
+}
@@ -0,0 +1,17 @@
+package com.oak.server.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostSearchResult {
+    private List<PostSearchHit> hits;
+    private long totalHits;
+
+    public static PostSearchResult empty() {
+        return new PostSearchResult(List.of(), 0);
+    }
+}
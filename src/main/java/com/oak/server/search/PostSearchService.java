@@ -0,0 +1,29 @@
+package com.oak.server.search;
+
+import com.oak.server.domain.Post;
+
+import java.util.Collection;
+import java.util.List;
+
+// 게시글 검색 엔진 (search.engine 설정으로 구현체 선택)
+public interface PostSearchService {
+
+    // 키워드 검색 (관련도 순, page 는 0부터)
+    PostSearchResult search(String kw, int page, int size);
+
+    // 색인 추가/갱신
+    void index(Post post);
+
+    // 여러 건 색인 (일괄 등록), 구현체가 한 번에 커밋할 수 있도록
+    default void indexAll(List<Post> posts) {
+        posts.forEach(this::index);
+    }
+
+    // 색인 삭제
+    void remove(Long postId);
+
+    // 여러 건 삭제 (탈퇴 정리), 구현체가 한 번에 커밋할 수 있도록
+    default void removeAll(Collection<Long> postIds) {
+        postIds.forEach(this::remove);
+    }
+}
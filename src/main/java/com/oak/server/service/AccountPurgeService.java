@@ -0,0 +1,264 @@
+package com.oak.server.service;
+
+import com.oak.server.cache.PostReadCache;
+import com.oak.server.domain.AccountPurge;
+import com.oak.server.event.AccountWithdrawnEvent;
+import com.oak.server.event.PostPurgeEvent;
+import com.oak.server.repository.AccountPurgeRepository;
+import com.oak.server.repository.BoardStatsRepository;
+import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.PostVoteRepository;
+import com.oak.server.repository.ReplyRepository;
+import com.oak.server.repository.ReplyVoteRepository;
+import com.oak.server.repository.UserRepository;
+import com.oak.server.storage.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 회원 탈퇴 정리 (백그라운드)
+// - 탈퇴 요청은 withdrawnAt 을 찍고 account_purge 행만 만든 뒤 바로 응답한다 (로그인/인증은 그때부터 막힘)
+// - 커밋 후 전용 스레드가 chunk-size 건씩 bulk UPDATE/DELETE 로 지운다. 묶음마다 짧은 트랜잭션이라 락을 오래 잡지 않고,
+//   엔티티를 읽지 않으므로 cascade 로 글/댓글을 하나씩 로딩하지 않는다
+// - 진행 단계/건수는 묶음과 같은 트랜잭션에서 기록하므로, 중간에 멈추면 재시작 후 그 단계부터 이어서 한다 (각 단계는 남은 행만 다시 찾음)
+// - 끝나지 않은 작업(재시작, 실패, 큐 넘침)은 retry-interval 마다 다시 넣는다
+@Slf4j
+@Service
+public class AccountPurgeService {
+
+    private final AccountPurgeRepository accountPurgeRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final BoardStatsRepository boardStatsRepository;
+    private final ReplyRepository replyRepository;
+    private final PostVoteRepository postVoteRepository;
+    private final ReplyVoteRepository replyVoteRepository;
+    private final FileStorageService fileStorageService;
+    private final PostReadCache postReadCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+
+    // 큐에 있거나 진행 중인 회원 (같은 작업을 두 번 넣지 않도록)
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    private final Counter completed;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public AccountPurgeService(AccountPurgeRepository accountPurgeRepository,
+                               UserRepository userRepository,
+                               PostRepository postRepository,
+                               BoardStatsRepository boardStatsRepository,
+                               ReplyRepository replyRepository,
+                               PostVoteRepository postVoteRepository,
+                               ReplyVoteRepository replyVoteRepository,
+                               FileStorageService fileStorageService,
+                               PostReadCache postReadCache,
+                               ApplicationEventPublisher eventPublisher,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${account.purge.chunk-size:500}") int chunkSize,
+                               @Value("${account.purge.chunk-pause-ms:20}") long chunkPauseMillis,
+                               @Value("${account.purge.queue-capacity:1000}") int queueCapacity) {
+        this.accountPurgeRepository = accountPurgeRepository;
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.boardStatsRepository = boardStatsRepository;
+        this.replyRepository = replyRepository;
+        this.postVoteRepository = postVoteRepository;
+        this.replyVoteRepository = replyVoteRepository;
+        this.fileStorageService = fileStorageService;
+        this.postReadCache = postReadCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+
+        // 한 번에 한 회원씩 (여러 탈퇴가 동시에 DB 를 두드리지 않도록)
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "account-purge");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "account-purge");
+
+        this.completed = Counter.builder("oak.account.purge").tag("result", "completed").register(meterRegistry);
+        this.rejected = Counter.builder("oak.account.purge").tag("result", "rejected").register(meterRegistry);
+        this.failed = Counter.builder("oak.account.purge").tag("result", "failed").register(meterRegistry);
+    }
+
+    // 1. 탈퇴 요청이 커밋되면 정리 시작
+    @TransactionalEventListener
+    public void onWithdrawn(AccountWithdrawnEvent event) {
+        submit(event.getUserId());
+    }
+
+    // 2. 끝나지 않은 작업 재개 (기동 직후 한 번 + 주기적으로)
+    @Scheduled(initialDelayString = "${account.purge.resume-delay-ms:10000}",
+            fixedDelayString = "${account.purge.retry-interval-ms:300000}")
+    public void resumePending() {
+        accountPurgeRepository.findByCompletedAtIsNull().forEach(purge -> submit(purge.getUserId()));
+    }
+
+    private void submit(Long userId) {
+        if (!running.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    purge(userId);
+                } finally {
+                    running.remove(userId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // account_purge 행이 남아 있으므로 다음 재시도 때 다시 넣는다
+            running.remove(userId);
+            rejected.increment();
+            log.warn("탈퇴 정리 큐가 가득 차 다음에 다시 시도합니다: 회원 {}", userId);
+        }
+    }
+
+    private void purge(Long userId) {
+        long start = System.nanoTime();
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> step(userId)))) {
+                if (chunkPauseMillis > 0) {
+                    Thread.sleep(chunkPauseMillis); // 다른 요청/복제본이 따라올 틈
+                }
+            }
+            completed.increment();
+            accountPurgeRepository.findById(userId).ifPresent(purge ->
+                    log.info("탈퇴 정리 완료: {} (글 {}, 댓글 {}, 글 추천 {}, 댓글 추천 {}, 파일 {}, {} ms)",
+                            purge.getUsername(), purge.getPosts(), purge.getReplies(), purge.getPostVotes(),
+                            purge.getReplyVotes(), purge.getFiles(), (System.nanoTime() - start) / 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("탈퇴 정리 실패, 다음에 이어서 진행합니다: 회원 {} ({})", userId, e.getMessage());
+        }
+    }
+
+    // 한 묶음 처리 (트랜잭션 하나). 남은 작업이 있으면 true
+    // running 은 이 인스턴스 안에서만 막으므로, 행을 잠근 뒤 남은 행을 찾아 다른 인스턴스와 같은 묶음을 두 번 처리하지 않는다
+    private boolean step(Long userId) {
+        AccountPurge purge = accountPurgeRepository.findForStep(userId).orElse(null);
+        if (purge == null || purge.getStage() == AccountPurge.Stage.DONE) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        purge.setUpdatedAt(now);
+
+        switch (purge.getStage()) {
+            // 내가 누른 글 추천 취소 (대상 글의 추천 수도 함께 감소)
+            case POST_VOTES -> {
+                List<Long> postIds = postVoteRepository.findPostIdsVotedBy(userId, chunkSize);
+                if (postIds.isEmpty()) {
+                    purge.setStage(AccountPurge.Stage.REPLY_VOTES);
+                } else {
+                    postRepository.decreaseVoteCounts(postIds, now);
+                    purge.setPostVotes(purge.getPostVotes() + postVoteRepository.deleteVotes(userId, postIds));
+                    postReadCache.evictAllAfterCommit();
+                }
+            }
+            // 내가 누른 댓글 추천 취소 (댓글이 달린 글의 revision 도 올림)
+            case REPLY_VOTES -> {
+                List<Long> replyIds = replyVoteRepository.findReplyIdsVotedBy(userId, chunkSize);
+                if (replyIds.isEmpty()) {
+                    purge.setStage(AccountPurge.Stage.REPLIES);
+                } else {
+                    replyRepository.decreaseVoteCounts(replyIds);
+                    postRepository.touchByReplies(replyIds, now);
+                    purge.setReplyVotes(purge.getReplyVotes() + replyVoteRepository.deleteVotes(userId, replyIds));
+                    // 글 revision 이 올라가므로 캐시된 상세/목록도 커밋 후 지움
+                    postReadCache.evictAllAfterCommit();
+                }
+            }
+            // 내가 쓴 댓글 (달린 추천 먼저)
+            case REPLIES -> {
+                List<Long> replyIds = replyRepository.findIdsByAuthor(userId, chunkSize);
+                if (replyIds.isEmpty()) {
+                    purge.setStage(AccountPurge.Stage.POSTS);
+                } else {
+                    replyVoteRepository.deleteAllByReplyIdIn(replyIds);
+                    postRepository.touchByReplies(replyIds, now);
+                    purge.setReplies(purge.getReplies() + replyRepository.deleteAllByIdIn(replyIds));
+                    postReadCache.evictAllAfterCommit();
+                }
+            }
+            // 내가 쓴 글 (다른 회원의 댓글/추천과 그 활동 수, 첨부 파일 포함)
+            case POSTS -> {
+                List<Long> postIds = postRepository.findIdsByAuthor(userId, chunkSize);
+                if (postIds.isEmpty()) {
+                    purge.setStage(AccountPurge.Stage.ACCOUNT);
+                } else {
+                    List<String> files = new ArrayList<>(postRepository.findFilePathsByIdIn(postIds));
+                    files.addAll(postRepository.findThumbnailPathsByIdIn(postIds));
+
+                    userRepository.decreaseLikeCountsOnPosts(postIds);
+                    userRepository.decreaseReplyCountsOnPosts(postIds);
+                    replyVoteRepository.deleteAllByPostIdIn(postIds);
+                    postVoteRepository.deleteAllByPostIdIn(postIds);
+                    replyRepository.deleteAllByPostIdIn(postIds);
+                    int deleted = postRepository.deleteAllByIdIn(postIds);
+                    boardStatsRepository.addPostCount(-deleted);
+                    purge.setPosts(purge.getPosts() + deleted);
+
+                    files.forEach(fileStorageService::releaseAfterCommit);
+                    purge.setFiles(purge.getFiles() + files.size());
+                    postReadCache.evictAllAfterCommit();
+                    eventPublisher.publishEvent(new PostPurgeEvent(postIds));
+                }
+            }
+            // 프로필 이미지와 회원 행
+            case ACCOUNT -> {
+                userRepository.findById(userId).ifPresent(user -> {
+                    fileStorageService.releaseAfterCommit(user.getProfileImg());
+                    fileStorageService.releaseAfterCommit(user.getProfileThumbPath());
+                    purge.setFiles(purge.getFiles()
+                            + (user.getProfileImg() != null ? 1 : 0) + (user.getProfileThumbPath() != null ? 1 : 0));
+                });
+                userRepository.deleteAccount(userId);
+                purge.setStage(AccountPurge.Stage.DONE);
+                purge.setCompletedAt(now);
+                return false;
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
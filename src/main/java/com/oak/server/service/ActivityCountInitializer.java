@@ -0,0 +1,45 @@
+package com.oak.server.service;
+
+import com.oak.server.repository.BoardStatsRepository;
+import com.oak.server.repository.PostVoteRepository;
+import com.oak.server.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 회원 활동 수 컬럼 / 추천 시각 보정. 요청을 받기 전(웹 서버 시작 전)에 매번 실행
+// - 추천 시각이 없는 예전 추천(조인 테이블 시절)은 글 작성 시각으로 채워 추천한 글 커서가 동작하게 함
+// - 활동 수가 아직 채워지지 않은 회원(postCount/replyCount/likeCount 도입 전 회원)만 재계산
+//   채우기 전에 글을 지우면 0 아래로 내려가므로 요청보다 먼저 끝나야 한다
+// - 게시판 전체 글 수(board_stats)가 없으면 한 번 센다
+// - 이미 채워진 값까지 다시 맞추려면 user.recount-activity-on-startup=true (전체 재계산)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityCountInitializer implements SmartInitializingSingleton {
+
+    private final UserRepository userRepository;
+    private final PostVoteRepository postVoteRepository;
+    private final BoardStatsRepository boardStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.recount-activity-on-startup:false}")
+    private boolean recountAll;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            int votes = postVoteRepository.fillMissingCreateDates();
+            int users = recountAll ? userRepository.recountActivity() : userRepository.recountMissingActivity();
+            if (boardStatsRepository.initializeMissing() == 0 && recountAll) {
+                boardStatsRepository.recountPosts();
+            }
+            if (votes > 0 || users > 0 || recountAll) {
+                log.info("활동 수 재계산 완료: 회원 {}건 (추천 시각 보정 {}건)", users, votes);
+            }
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.oak.server.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+
+// 시퀀스가 기존 최대 id 보다 뒤에서 시작하도록 맞춘다. 요청을 받기 전(웹 서버 시작 전)에 실행
+// IDENTITY 로 쌓인 기존 행과 겹치지 않게 매 시작마다 돌리고, 앞으로만 당기므로 여러 번 돌아도 같다
+// - MySQL: Hibernate 가 만든 *_seq 테이블의 next_val
+// - 그 밖(H2 등): 현재 값보다 뒤일 때만 ALTER SEQUENCE ... RESTART
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 테이블 -> 시퀀스 (엔티티의 @SequenceGenerator 와 같게)
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "post", "post_seq",
+            "reply", "reply_seq",
+            "site_user", "site_user_seq");
+
+    // pooled 최적화기는 한 번에 allocationSize 만큼 잡으므로 그만큼 여유를 둔다
+    private static final long ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        boolean mysql = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql")));
+
+        SEQUENCES.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            long next = (maxId == null ? 0 : maxId) + 1 + ALLOCATION_SIZE;
+            if (mysql) {
+                if (jdbcTemplate.update("update " + sequence + " set next_val = ? where next_val < ?", next, next) == 0) {
+                    return;
+                }
+            } else {
+                // 다른 인스턴스가 이미 받아 간 구간을 되돌리지 않도록 뒤로는 당기지 않는다
+                Long current = jdbcTemplate.queryForObject(
+                        "select base_value from information_schema.sequences where lower(sequence_name) = ?",
+                        Long.class, sequence);
+                if (current != null && current >= next) {
+                    return;
+                }
+                jdbcTemplate.execute("alter sequence " + sequence + " restart with " + next);
+            }
+            log.info("시퀀스 정렬: {} (최대 id {}) -> {}", sequence, maxId, next);
+        });
+    }
+}
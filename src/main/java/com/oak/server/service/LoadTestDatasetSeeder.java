@@ -0,0 +1,259 @@
+package com.oak.server.service;
+
+import com.oak.server.domain.Post;
+import com.oak.server.domain.Reply;
+import com.oak.server.domain.SiteUser;
+import com.oak.server.event.PostBatchEvent;
+import com.oak.server.repository.BoardStatsRepository;
+import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.ReplyRepository;
+import com.oak.server.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 부하 테스트용 데이터 생성 (loadtest 프로필 + loadtest.seed.enabled=true 일 때만)
+// 같은 시드면 항상 같은 데이터: 글마다 인기 순위를 정하고 Zipf 분포로 추천/댓글/조회수를 나눠 준다
+// (소수의 글에 추천과 댓글이 몰리고 대부분은 거의 없음)
+// ApplicationReadyEvent 에서 끝까지 채운 뒤에야 readiness 가 ACCEPTING_TRAFFIC 이 되므로
+// 시나리오 실행기는 /readyz 가 200 이 될 때까지 기다렸다가 시작한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loadtest.seed.enabled", havingValue = "true")
+public class LoadTestDatasetSeeder {
+
+    // 제목/본문 단어 (시나리오 실행기의 검색어와 같은 목록)
+    static final String[] WORDS = {
+            "참나무", "도토리", "숲", "산책", "캠핑", "등산", "사진", "여행", "커피", "맛집",
+            "개발", "자바", "스프링", "데이터베이스", "검색", "성능", "캐시", "인덱스", "서버", "배포",
+            "oak", "java", "spring", "lucene", "mysql", "cache", "index", "latency", "throughput", "benchmark"
+    };
+
+    // 시드 데이터 회원 비밀번호 (시나리오 실행기가 이 값으로 로그인)
+    static final String PASSWORD = "loadtest";
+
+    // 날짜도 실행 시각과 무관하게 고정
+    private static final LocalDateTime END = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final BoardStatsRepository boardStatsRepository;
+    private final ReplyRepository replyRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${loadtest.seed.seed:42}")
+    private long seed;
+
+    @Value("${loadtest.seed.users:1000}")
+    private int userCount;
+
+    @Value("${loadtest.seed.posts:100000}")
+    private int postCount;
+
+    // 글당 평균 댓글 / 추천 수 (Zipf 로 나눠 주므로 실제로는 상위 글에 몰림)
+    @Value("${loadtest.seed.replies-per-post:3}")
+    private double repliesPerPost;
+
+    @Value("${loadtest.seed.votes-per-post:5}")
+    private double votesPerPost;
+
+    // 한 글에 달리는 댓글 상한 (최상위 글이 나머지를 다 가져가지 않도록)
+    @Value("${loadtest.seed.max-replies-per-post:2000}")
+    private int maxRepliesPerPost;
+
+    // Zipf 지수 (클수록 상위 쏠림이 심함)
+    @Value("${loadtest.seed.zipf-exponent:1.1}")
+    private double exponent;
+
+    @Value("${loadtest.seed.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${loadtest.seed.days:365}")
+    private int days;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (postRepository.count() > 0) {
+            log.info("부하 테스트 데이터가 이미 있어 생성을 건너뜀");
+            return;
+        }
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<SiteUser> users = createUsers();
+        long[] userIds = users.stream().mapToLong(SiteUser::getId).toArray();
+
+        // 글 i 의 인기 순위 (1 = 가장 인기) 와 순위별 비율
+        int[] rank = shuffledRanks(postCount, random.split());
+        double[] share = zipfShares(postCount, exponent);
+
+        long totalReplies = Math.round(postCount * repliesPerPost);
+        long totalVotes = Math.round(postCount * votesPerPost);
+        long minutesPerPost = Math.max(1, days * 24L * 60 / Math.max(1, postCount));
+        LocalDateTime first = END.minusMinutes(minutesPerPost * postCount);
+
+        long posts = 0;
+        long replies = 0;
+        long votes = 0;
+        for (int from = 0; from < postCount; from += chunkSize) {
+            int to = Math.min(postCount, from + chunkSize);
+            SplittableRandom chunkRandom = random.split();
+            int chunkFrom = from;
+            long[] written = transactionTemplate.execute(status -> {
+                List<Post> chunkPosts = new ArrayList<>(to - chunkFrom);
+                List<Reply> chunkReplies = new ArrayList<>();
+                int[] chunkVotes = new int[to - chunkFrom];
+
+                for (int i = chunkFrom; i < to; i++) {
+                    double p = share[rank[i] - 1];
+                    int voteCount = (int) Math.min(userIds.length, roundRandomly(totalVotes * p, chunkRandom));
+                    int replyCount = (int) Math.min(maxRepliesPerPost, roundRandomly(totalReplies * p, chunkRandom));
+
+                    Post post = new Post();
+                    post.setTitle(sentence(chunkRandom, 3 + chunkRandom.nextInt(6)));
+                    post.setContent(sentence(chunkRandom, 20 + chunkRandom.nextInt(120)));
+                    post.setCreateDate(first.plusMinutes(minutesPerPost * i));
+                    post.setRevisedAt(post.getCreateDate());
+                    post.setAuthor(users.get(authorIndex(chunkRandom, users.size())));
+                    // 추천 수/조회수 컬럼은 INSERT 때만 쓸 수 있으므로 여기서 채움
+                    post.setVoteCount(voteCount);
+                    post.setView(voteCount * 20 + replyCount * 5 + chunkRandom.nextInt(10));
+                    chunkPosts.add(post);
+                    chunkVotes[i - chunkFrom] = voteCount;
+
+                    for (int r = 0; r < replyCount; r++) {
+                        Reply reply = new Reply();
+                        reply.setContent(sentence(chunkRandom, 3 + chunkRandom.nextInt(20)));
+                        reply.setCreateDate(post.getCreateDate().plusMinutes(1 + r));
+                        reply.setPost(post);
+                        reply.setAuthor(users.get(chunkRandom.nextInt(users.size())));
+                        chunkReplies.add(reply);
+                    }
+                }
+
+                postRepository.saveAll(chunkPosts);
+                replyRepository.saveAll(chunkReplies);
+                entityManager.flush();
+                long chunkVoteRows = insertVotes(chunkPosts, chunkVotes, userIds, chunkRandom);
+                entityManager.clear();
+
+                eventPublisher.publishEvent(new PostBatchEvent(chunkPosts));
+                return new long[]{chunkPosts.size(), chunkReplies.size(), chunkVoteRows};
+            });
+            posts += written[0];
+            replies += written[1];
+            votes += written[2];
+            log.info("부하 테스트 데이터 생성 중: 글 {}/{}, 댓글 {}, 추천 {}", posts, postCount, replies, votes);
+        }
+        // 회원별 활동 수 컬럼과 전체 글 수는 마지막에 한 번에 채움
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.recountActivity();
+            boardStatsRepository.recountPosts();
+        });
+        log.info("부하 테스트 데이터 생성 완료: 회원 {}, 글 {}, 댓글 {}, 추천 {} ({} ms)",
+                userIds.length, posts, replies, votes, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 회원: loadtest-user-0 ... (비밀번호는 모두 같으므로 한 번만 해시)
+    private List<SiteUser> createUsers() {
+        String encoded = passwordEncoder.encode(PASSWORD);
+        List<SiteUser> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            SiteUser user = new SiteUser();
+            user.setUsername("loadtest-user-" + i);
+            user.setEmail("loadtest-user-" + i + "@oak.test");
+            user.setPassword(encoded);
+            users.add(user);
+        }
+        return transactionTemplate.execute(status -> userRepository.saveAll(users));
+    }
+
+    // 추천자는 글마다 임의의 시작 위치부터 연속된 회원 (중복 없이 PK(post_id, voter_id) 를 지킴)
+    private long insertVotes(List<Post> posts, int[] voteCounts, long[] userIds, SplittableRandom random) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i++) {
+            Post post = posts.get(i);
+            int offset = random.nextInt(userIds.length);
+            Timestamp at = Timestamp.valueOf(post.getCreateDate().plusMinutes(1));
+            for (int v = 0; v < voteCounts[i]; v++) {
+                rows.add(new Object[]{post.getId(), userIds[(offset + v) % userIds.length], at});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into post_voter (post_id, voter_id, create_date) values (?, ?, ?)", rows);
+        }
+        return rows.size();
+    }
+
+    // 작성자도 쏠리게 (헤비 유저): 앞쪽 회원일수록 글을 많이 씀
+    private static int authorIndex(SplittableRandom random, int users) {
+        double u = random.nextDouble();
+        return (int) Math.min(users - 1, Math.floor(users * u * u * u));
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    // 1..n 순위를 섞어 글마다 하나씩 (최신 글이 항상 인기 글이 되지 않도록)
+    private static int[] shuffledRanks(int n, SplittableRandom random) {
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[i] = i + 1;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = rank[i];
+            rank[i] = rank[j];
+            rank[j] = tmp;
+        }
+        return rank;
+    }
+
+    // 순위 r 의 비율 = r^-s / H(n, s)
+    private static double[] zipfShares(int n, double s) {
+        double[] share = new double[n];
+        double sum = 0;
+        for (int r = 1; r <= n; r++) {
+            share[r - 1] = Math.pow(r, -s);
+            sum += share[r - 1];
+        }
+        for (int r = 0; r < n; r++) {
+            share[r] /= sum;
+        }
+        return share;
+    }
+
+    // 기댓값을 유지하는 확률적 반올림 (0.3 -> 30% 확률로 1)
+    private static long roundRandomly(double value, SplittableRandom random) {
+        long floor = (long) Math.floor(value);
+        return floor + (random.nextDouble() < value - floor ? 1 : 0);
+    }
+}
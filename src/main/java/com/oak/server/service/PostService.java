@@ -1,29 +1,77 @@
 package com.oak.server.service;
 
+import com.oak.server.cache.PostReadCache;
 import com.oak.server.domain.Post;
+import com.oak.server.domain.Reply;
 import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.BatchProgress;
+import com.oak.server.dto.CursorSlice;
+import com.oak.server.dto.LikedPost;
+import com.oak.server.dto.PostCursor;
+import com.oak.server.dto.PostBatchItem;
+import com.oak.server.dto.PostDetail;
+import com.oak.server.dto.PostSummary;
+import com.oak.server.event.PostBatchEvent;
+import com.oak.server.event.PostEvent;
+import com.oak.server.event.VoteEvent;
+import com.oak.server.repository.BoardStatsRepository;
 import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.PostVoteRepository;
+import com.oak.server.repository.ReplyRepository;
+import com.oak.server.repository.ReplyVoteRepository;
+import com.oak.server.repository.UserRepository;
+import com.oak.server.search.PostSearchHit;
+import com.oak.server.search.PostSearchResult;
+import com.oak.server.search.PostSearchService;
+import com.oak.server.storage.FileStorageService;
+import com.oak.server.storage.ImageVariantService;
+import com.oak.server.storage.StoredFile;
+import com.oak.server.trending.TrendingService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostVoteRepository postVoteRepository;
+    private final ReplyVoteRepository replyVoteRepository;
+    private final PostSearchService postSearchService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final PostReadCache postReadCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReplyRepository replyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final TrendingService trendingService;
+    private final UserRepository userRepository;
+    private final BoardStatsRepository boardStatsRepository;
 
     // 1. 글 쓰기 (Create)
     @Transactional
@@ -32,8 +80,12 @@ public class PostService {
         post.setTitle(title);
         post.setContent(content);
         post.setCreateDate(LocalDateTime.now());
+        post.setRevisedAt(post.getCreateDate());
         post.setAuthor(author);
         this.postRepository.save(post);
+        this.userRepository.addPostCount(author.getId(), 1);
+        this.boardStatsRepository.addPostCount(1);
+        this.eventPublisher.publishEvent(PostEvent.created(post));
     }
 
     // 2. 글 조회 (Read - Paging)
@@ -43,10 +95,94 @@ public class PostService {
         sorts.add(Sort.Order.desc("createDate"));
         Pageable pageable = PageRequest.of(page, 10, Sort.by(sorts));
 
-        return this.postRepository.findAllByKeyword(kw, pageable);
+        // 검색어가 없으면 검색 엔진을 거치지 않고 최신순으로 바로 조회
+        if (!StringUtils.hasText(kw)) {
+            return this.postRepository.findAll(pageable);
+        }
+
+        // 검색어가 있으면 관련도 순으로 id 를 받아 그 순서대로 글을 채운다
+        PostSearchResult result = this.postSearchService.search(kw.trim(), page, 10);
+        List<Long> ids = result.getHits().stream().map(PostSearchHit::getPostId).toList();
+        Map<Long, Post> posts = this.postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> content = ids.stream().map(posts::get).filter(Objects::nonNull).toList();
+
+        return new PageImpl<>(content, PageRequest.of(page, 10), result.getTotalHits());
+    }
+
+    // 2-1. 글 목록 조회 (요약 DTO)
+    // 페이지 크기와 상관없이 목록 + count + 추천 여부 조회로 끝난다
+    // sort: latest(최신순) | popular(추천순, voteCount 컬럼 인덱스 사용)
+    // 검색어 없는 앞 페이지는 PostReadCache 에서 꺼낸다 (조회수/추천 여부는 매번 DB 에서 채우므로 읽기 전용 트랜잭션 -> 복제본)
+    @Transactional(readOnly = true)
+    public Page<PostSummary> getSummaryList(int page, String kw, String sort, String username) {
+        boolean popular = "popular".equals(sort);
+        Pageable pageable = listPageable(page, sort);
+
+        Page<PostSummary> summaries;
+        if (!StringUtils.hasText(kw) && this.postReadCache.isCacheablePage(page)) {
+            summaries = this.postReadCache.getPage(popular ? "popular" : "latest", pageable,
+                    () -> this.postRepository.findSummaries(pageable));
+            fillViews(summaries.getContent());
+        } else if (!StringUtils.hasText(kw)) {
+            summaries = this.postRepository.findSummaries(pageable);
+        } else {
+            PostSearchResult result = this.postSearchService.search(kw.trim(), page, 10);
+            List<Long> ids = result.getHits().stream().map(PostSearchHit::getPostId).toList();
+            Map<Long, PostSummary> byId = this.postRepository.findSummariesByIdIn(ids).stream()
+                    .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+            List<PostSummary> content = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+            summaries = new PageImpl<>(content, pageable, result.getTotalHits());
+        }
+
+        markLiked(summaries.getContent(), username);
+        return summaries;
+    }
+
+    // 목록 페이지 요청 (목록 조회와 조건부 GET 버전 확인이 같은 정렬을 쓰도록)
+    public static Pageable listPageable(int page, String sort) {
+        Sort order = "popular".equals(sort)
+                ? Sort.by(Sort.Order.desc("voteCount"), Sort.Order.desc("createDate"))
+                : Sort.by(Sort.Order.desc("createDate"));
+        return PageRequest.of(page, 10, order);
+    }
+
+    // 2-2. 글 검색 (관련도 순 + 하이라이트)
+    @Transactional(readOnly = true)
+    public Page<PostSearchHit> search(int page, String kw) {
+        if (!StringUtils.hasText(kw)) {
+            return Page.empty(PageRequest.of(page, 10));
+        }
+        PostSearchResult result = this.postSearchService.search(kw.trim(), page, 10);
+        return new PageImpl<>(result.getHits(), PageRequest.of(page, 10), result.getTotalHits());
+    }
+
+    // 2-3. 피드 조회 (Read - Cursor)
+    // OFFSET 스캔과 count 쿼리 없이 (createDate, id) 인덱스를 따라 다음 묶음만 읽는다
+    @Transactional(readOnly = true)
+    public CursorSlice<PostSummary> getFeed(String cursor, int size, String username) {
+        Pageable pageable = PageRequest.ofSize(size);
+
+        Slice<PostSummary> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = this.postRepository.findFeed(pageable);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            slice = this.postRepository.findFeedAfter(after.getCreateDate(), after.getId(), pageable);
+        }
+
+        List<PostSummary> content = slice.getContent();
+        markLiked(content, username);
+
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            PostSummary last = content.get(content.size() - 1);
+            nextCursor = new PostCursor(last.getCreateDate(), last.getId()).encode();
+        }
+        return new CursorSlice<>(content, nextCursor, slice.hasNext());
     }
 
-    // 2-1. 전체 글 조회 (API용)
+    // 2-4. 전체 글 조회 (API용)
     @Transactional(readOnly = true)
     public List<Post> findAll() {
         return postRepository.findAll();
@@ -59,24 +195,33 @@ public class PostService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 글입니다."));
     }
 
-    // 4. 글 수정
+    // 3-1. 특정 글 상세 조회 (상세 DTO, 댓글은 ReplyService 에서 페이지 단위로 채움)
+    // 공용 부분은 PostReadCache 에서 꺼내고, 조회수/추천 여부는 요청마다 채운다
+    @Transactional(readOnly = true)
+    public PostDetail getDetail(Long id, String username) {
+        PostDetail detail = postReadCache.getDetail(id, () -> postRepository.findDetailById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 글입니다.")));
+        int view = postRepository.findViews(List.of(id)).stream().mapToInt(PostRepository.ViewCount::getView).sum();
+        detail.setView(view + (int) viewCountBuffer.pending(id));
+        if (username != null) {
+            detail.setLiked(!postVoteRepository.findVotedPostIds(List.of(id), username).isEmpty());
+        }
+        return detail;
+    }
+
+    // 4. 글 수정 (파일은 FileStorageService 로 미리 저장된 것을 받음)
     @Transactional
-    public void modify(Post post, String title, String content, MultipartFile file, boolean isImageDeleted) throws IOException {
+    public void modify(Post post, String title, String content, StoredFile file, boolean isImageDeleted) {
         post.setTitle(title);
         post.setContent(content);
         post.setModifyDate(LocalDateTime.now());
 
-        // 새 파일이 들어온 경우 (교체)
-        if (file != null && !file.isEmpty()) {
-            String projectPath = System.getProperty("user.dir") + "/src/main/resources/static/files";
-            UUID uuid = UUID.randomUUID();
-            String fileName = uuid + "_" + file.getOriginalFilename();
+        String oldFilePath = post.getFilePath();
 
-            File saveFile = new File(projectPath, fileName);
-            file.transferTo(saveFile);
-
-            post.setFileName(fileName);
-            post.setFilePath("/files/" + fileName);
+        // 새 파일이 들어온 경우 (교체)
+        if (file != null) {
+            post.setFileName(file.getOriginalName());
+            post.setFilePath(file.getUrl());
         }
         // 새 파일은 없는데, 삭제하겠다고 한 경우 (삭제)
         else if (isImageDeleted) {
@@ -84,66 +229,230 @@ public class PostService {
             post.setFilePath(null);
         }
 
+        // 교체/삭제된 이전 파일(과 썸네일)은 커밋 후 정리
+        if (oldFilePath != null && !oldFilePath.equals(post.getFilePath())) {
+            this.postRepository.clearThumbnailPath(post.getId());
+            this.fileStorageService.releaseAfterCommit(oldFilePath);
+            this.fileStorageService.releaseAfterCommit(post.getThumbnailPath());
+        }
+
         this.postRepository.save(post);
+        this.postRepository.touch(post.getId(), post.getModifyDate());
+        if (file != null) {
+            this.imageVariantService.requestPostThumbnail(post.getId(), post.getFilePath());
+        }
+        this.eventPublisher.publishEvent(PostEvent.modified(post));
     }
 
     // 5. 글 삭제 (Delete)
     @Transactional
     public void delete(Post post) {
+        // 함께 사라지는 글/댓글/추천만큼 각 회원의 활동 수 감소 (추천/댓글 삭제 전에)
+        this.userRepository.decreaseLikeCountsOnPosts(List.of(post.getId()));
+        this.userRepository.decreaseReplyCountsOnPosts(List.of(post.getId()));
+        if (post.getAuthor() != null) {
+            this.userRepository.addPostCount(post.getAuthor().getId(), -1);
+        }
+
+        // 추천은 별도 테이블이므로 글/댓글보다 먼저 일괄 삭제
+        this.replyVoteRepository.deleteAllByPostId(post.getId());
+        this.postVoteRepository.deleteAllByPostId(post.getId());
         this.postRepository.delete(post);
+        this.boardStatsRepository.addPostCount(-1);
+        this.fileStorageService.releaseAfterCommit(post.getFilePath());
+        this.fileStorageService.releaseAfterCommit(post.getThumbnailPath());
+        this.eventPublisher.publishEvent(PostEvent.deleted(post));
     }
 
-    // 6. 글 추천
+    // 6. 글 추천 (토글)
+    // 추천자 목록을 읽지 않고 DELETE 결과로 방향을 정한 뒤 추천 수 컬럼만 증감한다
+    // 취소할 때는 지우기 전에 읽은 원래 추천 시각을 이벤트로 넘긴다 (인기글 점수에서 그 추천이 더했던 만큼만 빼도록)
+    // 글 행을 먼저 잠가 같은 글의 토글이 차례로 실행되므로, 연속 클릭도 추천 -> 취소로 적용된다
+    // 반환값: true = 추천, false = 추천 취소
     @Transactional
-    public void vote(Post post, SiteUser siteUser) {
-        if (post.getVoter().contains(siteUser)) {
-            post.getVoter().remove(siteUser);
-        } else {
-            post.getVoter().add(siteUser);
+    public boolean vote(Long postId, SiteUser siteUser) {
+        if (this.postRepository.lockForVote(postId).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 글입니다.");
         }
-        this.postRepository.save(post);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime votedAt = this.postVoteRepository.findVoteDate(postId, siteUser.getId()).orElse(null);
+        if (this.postVoteRepository.deleteVote(postId, siteUser.getId()) > 0) {
+            this.postRepository.addVoteCount(postId, -1, now);
+            this.userRepository.addLikeCount(siteUser.getId(), -1);
+            this.eventPublisher.publishEvent(VoteEvent.post(postId, false, votedAt));
+            return false;
+        }
+        this.postVoteRepository.insertVote(postId, siteUser.getId(), now);
+        this.postRepository.addVoteCount(postId, 1, now);
+        this.userRepository.addLikeCount(siteUser.getId(), 1);
+        this.eventPublisher.publishEvent(VoteEvent.post(postId, true, now));
+        return true;
     }
 
-    // 7. 조회수 증가
-    @Transactional
-    public void increaseView(Post post) {
-        post.setView(post.getView() + 1);
-        this.postRepository.save(post);
+    // 7. 조회수 증가 (버퍼에 누적 후 주기적으로 일괄 반영) + 인기글 점수
+    public void increaseView(Long id) {
+        this.viewCountBuffer.increment(id);
+        this.trendingService.recordView(id);
     }
 
-    // 8. 내가 쓴 글 조회
+    // 8. 내가 쓴 글 조회 (요약 DTO, 커서 페이징, 최신순)
+    // (author_id, createDate, id) 인덱스를 따라 size 개씩만 읽는다
     @Transactional(readOnly = true)
-    public List<Post> getMyPosts(SiteUser user) {
-        return postRepository.findByAuthor(user);
+    public CursorSlice<PostSummary> getMyPosts(SiteUser user, String cursor, int size) {
+        Pageable pageable = PageRequest.ofSize(size);
+
+        Slice<PostSummary> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = this.postRepository.findAuthored(user.getId(), pageable);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            slice = this.postRepository.findAuthoredAfter(user.getId(), after.getCreateDate(), after.getId(), pageable);
+        }
+
+        List<PostSummary> content = slice.getContent();
+        markLiked(content, user.getUsername());
+
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            PostSummary last = content.get(content.size() - 1);
+            nextCursor = new PostCursor(last.getCreateDate(), last.getId()).encode();
+        }
+        return new CursorSlice<>(content, nextCursor, slice.hasNext());
     }
 
-    // 9. 내가 좋아요 한 글 조회
+    // 9. 내가 좋아요 한 글 조회 (요약 DTO, 커서 페이징, 최근 추천순)
+    // post_voter 의 (voter_id, createDate, post_id) 인덱스를 따라 읽고, 커서는 (추천 시각, 글 id)
     @Transactional(readOnly = true)
-    public List<Post> getMyLikedPosts(SiteUser user) {
-        return postRepository.findByVoterContains(user);
+    public CursorSlice<LikedPost> getMyLikedPosts(SiteUser user, String cursor, int size) {
+        Pageable pageable = PageRequest.ofSize(size);
+
+        Slice<LikedPost> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = this.postRepository.findLiked(user.getId(), pageable);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            slice = this.postRepository.findLikedAfter(user.getId(), after.getCreateDate(), after.getId(), pageable);
+        }
+
+        List<LikedPost> content = slice.getContent();
+        markLiked(content, null);
+        content.forEach(post -> post.setLiked(true));
+
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            LikedPost last = content.get(content.size() - 1);
+            nextCursor = new PostCursor(last.getLikedAt(), last.getId()).encode();
+        }
+        return new CursorSlice<>(content, nextCursor, slice.hasNext());
     }
 
-    // 파일 업로드 포함 글쓰기
+    // 파일 업로드 포함 글쓰기 (파일은 FileStorageService 로 미리 저장된 것을 받음)
     @Transactional
-    public void create(String title, String content, SiteUser user, MultipartFile file) throws IOException {
+    public void create(String title, String content, SiteUser user, StoredFile file) {
         Post p = new Post();
         p.setTitle(title);
         p.setContent(content);
         p.setCreateDate(LocalDateTime.now());
+        p.setRevisedAt(p.getCreateDate());
         p.setAuthor(user);
 
-        if (file != null && !file.isEmpty()) {
-            String projectPath = System.getProperty("user.dir") + "/src/main/resources/static/files";
-            UUID uuid = UUID.randomUUID();
-            String fileName = uuid + "_" + file.getOriginalFilename();
+        if (file != null) {
+            p.setFileName(file.getOriginalName());
+            p.setFilePath(file.getUrl());
+        }
+
+        this.postRepository.save(p);
+        this.userRepository.addPostCount(user.getId(), 1);
+        this.boardStatsRepository.addPostCount(1);
+        if (file != null) {
+            this.imageVariantService.requestPostThumbnail(p.getId(), p.getFilePath());
+        }
+        this.eventPublisher.publishEvent(PostEvent.created(p));
+    }
 
-            File saveFile = new File(projectPath, fileName);
-            file.transferTo(saveFile);
+    // 10. 일괄 등록 (이전 게시판 이관 / 테스트 데이터)
+    // chunkSize 건마다 별도 트랜잭션으로 커밋하고 progress 로 알린다 (실패하면 그 묶음만 롤백, 앞 묶음은 유지)
+    // id 를 시퀀스에서 미리 받아 두므로 INSERT 가 hibernate.jdbc.batch_size 단위로 묶여 전송된다
+    public BatchProgress writeAll(Iterable<PostBatchItem> items, SiteUser author, int chunkSize,
+                                  Consumer<BatchProgress> progress) {
+        long start = System.nanoTime();
+        Iterator<PostBatchItem> iterator = items.iterator();
+        int chunks = 0;
+        long posts = 0;
+        long replies = 0;
 
-            p.setFileName(fileName);
-            p.setFilePath("/files/" + fileName);
+        while (iterator.hasNext()) {
+            List<PostBatchItem> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext() && chunk.size() < chunkSize) {
+                chunk.add(iterator.next());
+            }
+            long[] written = this.transactionTemplate.execute(status -> writeChunk(chunk, author));
+            chunks++;
+            posts += written[0];
+            replies += written[1];
+            progress.accept(new BatchProgress(chunks, posts, replies, (System.nanoTime() - start) / 1_000_000));
         }
+        return new BatchProgress(chunks, posts, replies, (System.nanoTime() - start) / 1_000_000);
+    }
 
-        this.postRepository.save(p);
+    private long[] writeChunk(List<PostBatchItem> chunk, SiteUser author) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Post> posts = new ArrayList<>(chunk.size());
+        List<Reply> replies = new ArrayList<>();
+
+        for (PostBatchItem item : chunk) {
+            Post post = new Post();
+            post.setTitle(item.getTitle());
+            post.setContent(item.getContent());
+            post.setCreateDate(item.getCreateDate() != null ? item.getCreateDate() : now);
+            post.setRevisedAt(post.getCreateDate());
+            post.setAuthor(author);
+            posts.add(post);
+
+            if (item.getReplies() != null) {
+                for (PostBatchItem.ReplyItem replyItem : item.getReplies()) {
+                    Reply reply = new Reply();
+                    reply.setContent(replyItem.getContent());
+                    reply.setCreateDate(replyItem.getCreateDate() != null ? replyItem.getCreateDate() : post.getCreateDate());
+                    reply.setPost(post);
+                    reply.setAuthor(author);
+                    replies.add(reply);
+                }
+            }
+        }
+
+        this.postRepository.saveAll(posts);
+        this.replyRepository.saveAll(replies);
+        this.userRepository.addPostCount(author.getId(), posts.size());
+        this.boardStatsRepository.addPostCount(posts.size());
+        this.userRepository.addReplyCount(author.getId(), replies.size());
+        // 묶음마다 영속성 컨텍스트를 비워 메모리가 쌓이지 않게 함
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        this.eventPublisher.publishEvent(new PostBatchEvent(posts));
+        return new long[]{posts.size(), replies.size()};
+    }
+
+    // 캐시에서 꺼낸 목록의 조회수를 한 번의 조회로 채운다 (캐시에는 조회수가 없음, 미반영분은 markLiked 에서 더함)
+    private void fillViews(List<? extends PostSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> views = this.postRepository.findViews(summaries.stream().map(PostSummary::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostRepository.ViewCount::getId, PostRepository.ViewCount::getView));
+        summaries.forEach(summary -> summary.setView(views.getOrDefault(summary.getId(), 0)));
+    }
+
+    // 목록의 추천 여부를 한 번의 조회로 채운다 (아직 반영되지 않은 조회수도 함께 더함)
+    private void markLiked(List<? extends PostSummary> summaries, String username) {
+        summaries.forEach(summary -> summary.setView(summary.getView() + (int) viewCountBuffer.pending(summary.getId())));
+        if (username == null || summaries.isEmpty()) {
+            return;
+        }
+        List<Long> ids = summaries.stream().map(PostSummary::getId).toList();
+        Set<Long> voted = new HashSet<>(postVoteRepository.findVotedPostIds(ids, username));
+        summaries.forEach(summary -> summary.setLiked(voted.contains(summary.getId())));
     }
 }
@@ -3,19 +3,38 @@ package com.oak.server.service;
 import com.oak.server.domain.Post;
 import com.oak.server.domain.Reply;
 import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.CursorSlice;
+import com.oak.server.dto.MyReply;
+import com.oak.server.dto.PostCursor;
+import com.oak.server.dto.ReplyResponse;
+import com.oak.server.event.ReplyEvent;
+import com.oak.server.event.VoteEvent;
+import com.oak.server.repository.PostRepository;
 import com.oak.server.repository.ReplyRepository;
+import com.oak.server.repository.ReplyVoteRepository;
+import com.oak.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
 public class ReplyService {
 
     private final ReplyRepository replyRepository;
+    private final ReplyVoteRepository replyVoteRepository;
+    private final PostRepository postRepository; // 글 응답 버전 (댓글 수 / 댓글 목록이 상세에 포함)
     private final PostService postService; // 게시글 존재 확인
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRepository userRepository; // 회원별 댓글 수
 
     // 1. 댓글 쓰기
     @Transactional
@@ -24,11 +43,14 @@ public class ReplyService {
 
         Reply reply = new Reply();
         reply.setContent(content);
-        reply.setCreateDate(java.time.LocalDateTime.now());
+        reply.setCreateDate(LocalDateTime.now());
         reply.setPost(post);
         reply.setAuthor(author);
 
         this.replyRepository.save(reply);
+        this.userRepository.addReplyCount(author.getId(), 1);
+        this.postRepository.touch(postId, reply.getCreateDate());
+        this.eventPublisher.publishEvent(ReplyEvent.created(reply));
     }
 
     // 2. 댓글 조회
@@ -43,34 +65,93 @@ public class ReplyService {
     public void edit(Long id, String content) {
         Reply reply = findById(id);
         reply.update(content);
+        this.postRepository.touch(reply.getPost().getId(), LocalDateTime.now());
+        this.eventPublisher.publishEvent(ReplyEvent.modified(reply));
     }
 
     // 4. 댓글 삭제
     @Transactional
     public void delete(Long id) {
-        replyRepository.deleteById(id);
+        Reply reply = findById(id);
+        replyVoteRepository.deleteAllByReplyId(id);
+        replyRepository.delete(reply);
+        if (reply.getAuthor() != null) {
+            userRepository.addReplyCount(reply.getAuthor().getId(), -1);
+        }
+        postRepository.touch(reply.getPost().getId(), LocalDateTime.now());
+        this.eventPublisher.publishEvent(ReplyEvent.deleted(reply));
     }
 
-    // 5. 특정 게시글의 댓글 목록
+    // 5. 특정 게시글의 댓글 (읽기 모델, 커서 페이징, 오래된 순)
+    // 글의 댓글 컬렉션을 읽지 않고 (post_id, createDate, id) 인덱스로 size 개씩만 조회
     @Transactional(readOnly = true)
-    public List<Reply> findAll(Long postId) {
-        Post post = postService.findById(postId);
-        return post.getReplyList();
+    public CursorSlice<ReplyResponse> getReplies(Long postId, String cursor, int size, String username) {
+        PageRequest pageable = PageRequest.ofSize(size);
+
+        Slice<ReplyResponse> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = replyRepository.findThread(postId, pageable);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            slice = replyRepository.findThreadAfter(postId, after.getCreateDate(), after.getId(), pageable);
+        }
+
+        List<ReplyResponse> content = slice.getContent();
+        if (username != null && !content.isEmpty()) {
+            List<Long> ids = content.stream().map(ReplyResponse::getId).toList();
+            Set<Long> voted = new HashSet<>(replyVoteRepository.findVotedReplyIds(ids, username));
+            content.forEach(reply -> reply.setLiked(voted.contains(reply.getId())));
+        }
+
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            ReplyResponse last = content.get(content.size() - 1);
+            nextCursor = new PostCursor(last.getCreateDate(), last.getId()).encode();
+        }
+        return new CursorSlice<>(content, nextCursor, slice.hasNext());
     }
 
     // 6. 댓글 추천 기능 (토글)
-    public void vote(Reply reply, SiteUser siteUser) {
-        if (reply.getVoter().contains(siteUser)) {
-            reply.getVoter().remove(siteUser); // 취소
-        } else {
-            reply.getVoter().add(siteUser); // 추천
+    // 댓글 행을 먼저 잠가 같은 댓글의 토글이 차례로 실행되도록 함 (PostService.vote 와 같음)
+    // 반환값: true = 추천, false = 추천 취소
+    @Transactional
+    public boolean vote(Long replyId, SiteUser siteUser) {
+        Long postId = this.replyRepository.lockForVote(replyId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글이 존재하지 않습니다."));
+        // 댓글 목록의 추천 수가 바뀌므로 글 revision 을 올리고, 커밋 후 그 revision 이 실린 캐시(상세/목록)도 지운다
+        if (this.replyVoteRepository.deleteVote(replyId, siteUser.getId()) > 0) {
+            this.replyRepository.addVoteCount(replyId, -1); // 취소
+            this.postRepository.touch(postId, LocalDateTime.now());
+            this.eventPublisher.publishEvent(VoteEvent.reply(replyId, postId, false));
+            return false;
         }
-        this.replyRepository.save(reply);
+        this.replyVoteRepository.insertVote(replyId, siteUser.getId(), LocalDateTime.now()); // 추천
+        this.replyRepository.addVoteCount(replyId, 1);
+        this.postRepository.touch(postId, LocalDateTime.now());
+        this.eventPublisher.publishEvent(VoteEvent.reply(replyId, postId, true));
+        return true;
     }
 
-    // 7. 내가 쓴 댓글 조회
+    // 7. 내가 쓴 댓글 조회 (원문 제목만 함께, 커서 페이징, 최신순)
+    // (author_id, createDate, id) 인덱스를 따라 size 개씩만 읽는다
     @Transactional(readOnly = true)
-    public List<Reply> getMyReplies(SiteUser user) {
-        return replyRepository.findByAuthor(user);
+    public CursorSlice<MyReply> getMyReplies(SiteUser user, String cursor, int size) {
+        PageRequest pageable = PageRequest.ofSize(size);
+
+        Slice<MyReply> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = replyRepository.findAuthored(user.getId(), pageable);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            slice = replyRepository.findAuthoredAfter(user.getId(), after.getCreateDate(), after.getId(), pageable);
+        }
+
+        List<MyReply> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            MyReply last = content.get(content.size() - 1);
+            nextCursor = new PostCursor(last.getCreateDate(), last.getId()).encode();
+        }
+        return new CursorSlice<>(content, nextCursor, slice.hasNext());
     }
 }
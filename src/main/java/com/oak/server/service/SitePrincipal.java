@@ -0,0 +1,30 @@
+package com.oak.server.service;
+
+import com.oak.server.domain.SiteUser;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// 인증된 회원 (UserSecurityService 가 만들고 PrincipalCache 에 보관)
+// 회원 id 를 함께 들고 있어서, 글/댓글/추천 API 가 아이디로 회원을 다시 조회하지 않고 작성자로 쓸 수 있다
+@Getter
+public class SitePrincipal extends User {
+
+    private final Long id;
+
+    public SitePrincipal(Long id, String username, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+
+    // 작성자/추천자로 넘길 회원 (DB 조회 없이 id 와 아이디만 채운 분리 상태 객체, 요청마다 새로 만듦)
+    // 서비스는 외래 키(id)와 이벤트용 아이디만 읽으므로 충분하다. 프로필 등 다른 값이 필요하면 UserService.getUser 로 조회
+    public SiteUser toSiteUser() {
+        SiteUser user = new SiteUser();
+        user.setId(id);
+        user.setUsername(getUsername());
+        return user;
+    }
+}
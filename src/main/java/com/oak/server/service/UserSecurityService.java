@@ -7,9 +7,11 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,14 +19,16 @@ import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
-public class UserSecurityService implements UserDetailsService {
+public class UserSecurityService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // 1. DB에서 회원 조회
-        Optional<SiteUser> _siteUser = this.userRepository.findByUsername(username);
+        // 탈퇴 처리 중인 회원도 없는 것으로 (정리 작업이 끝날 때까지 행은 남아 있음)
+        Optional<SiteUser> _siteUser = this.userRepository.findByUsername(username)
+                .filter(user -> user.getWithdrawnAt() == null);
         if (_siteUser.isEmpty()) {
             throw new UsernameNotFoundException("사용자를 찾을수 없습니다.");
         }
@@ -36,6 +40,19 @@ public class UserSecurityService implements UserDetailsService {
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
 
-        return new User(siteUser.getUsername(), siteUser.getPassword(), authorities);
+        // 회원 id 도 함께 담아 둔다 (API 가 작성자를 다시 조회하지 않도록)
+        return new SitePrincipal(siteUser.getId(), siteUser.getUsername(), siteUser.getPassword(), authorities);
+    }
+
+    // 로그인 성공 시 저장된 해시가 이전 알고리즘/강도면 Spring Security 가 새로 해시해 넘겨준다 (rehash-on-login)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        this.userRepository.findByUsername(user.getUsername())
+                .ifPresent(siteUser -> siteUser.setPassword(newPassword));
+        if (user instanceof SitePrincipal principal) {
+            return new SitePrincipal(principal.getId(), principal.getUsername(), newPassword, principal.getAuthorities());
+        }
+        return User.withUserDetails(user).password(newPassword).build();
     }
 }
@@ -1,20 +1,27 @@
 package com.oak.server.service;
 
-import com.oak.server.domain.Post;
+import com.oak.server.cache.PostReadCache;
+import com.oak.server.domain.AccountPurge;
 import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.UserStats;
+import com.oak.server.event.AccountWithdrawnEvent;
+import com.oak.server.jwt.PrincipalCache;
+import com.oak.server.repository.AccountPurgeRepository;
 import com.oak.server.repository.PostRepository;
 import com.oak.server.repository.UserRepository;
+import com.oak.server.storage.FileStorageService;
+import com.oak.server.storage.ImageVariantService;
+import com.oak.server.storage.StoredFile;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.File;
-import java.io.IOException;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.UUID;
 
 @RequiredArgsConstructor
 @Service
@@ -22,7 +29,14 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final AccountPurgeRepository accountPurgeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final PostReadCache postReadCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public SiteUser create(String username, String email, String password) {
         SiteUser user = new SiteUser();
@@ -34,38 +48,64 @@ public class UserService {
         return user;
     }
 
-    // 유저ID로 회원 객체 조회
+    // 유저ID로 회원 객체 조회 (탈퇴 처리 중인 회원은 없는 것으로 봄)
     public SiteUser getUser(String username) {
         Optional<SiteUser> siteUser = this.userRepository.findByUsername(username);
-        if (siteUser.isPresent()) {
+        if (siteUser.isPresent() && siteUser.get().getWithdrawnAt() == null) {
             return siteUser.get();
         } else {
             throw new RuntimeException("siteuser not found");
         }
     }
 
-    // 프로필 사진
+    // 인증된 회원 (글/댓글/추천 작성자)
+    // 인증 필터가 PrincipalCache 로 이미 확인한 회원이면 다시 조회하지 않는다 (탈퇴하면 커밋 후 캐시에서 빠짐)
+    // 토큰 클레임만으로 인증하는 모드(jwt.auth-mode=claims)는 id 가 없으므로 아이디로 조회
+    public SiteUser getUser(UserDetails principal) {
+        if (principal instanceof SitePrincipal sitePrincipal) {
+            return sitePrincipal.toSiteUser();
+        }
+        return getUser(principal.getUsername());
+    }
+
+    // 활동 요약 (카운터 컬럼만 읽음)
+    @Transactional(readOnly = true)
+    public UserStats getStats(String username) {
+        return this.userRepository.findStatsByUsername(username)
+                .orElseThrow(() -> new RuntimeException("siteuser not found"));
+    }
+
+    // 프로필 사진 (파일은 FileStorageService 로 미리 저장된 것을 받음)
     @Transactional
-    public SiteUser updateProfileImage(String username, MultipartFile file, boolean isImageDeleted) throws IOException {
+    public SiteUser updateProfileImage(String username, StoredFile file, boolean isImageDeleted) {
         SiteUser user = this.getUser(username);
+        String oldProfileImg = user.getProfileImg();
 
         // 1. 새 파일이 들어온 경우 (업로드)
-        if (file != null && !file.isEmpty()) {
-            String projectPath = System.getProperty("user.dir") + "/src/main/resources/static/files";
-            UUID uuid = UUID.randomUUID();
-            String fileName = uuid + "_profile_" + file.getOriginalFilename();
-
-            File saveFile = new File(projectPath, fileName);
-            file.transferTo(saveFile);
-
-            user.setProfileImg("/files/" + fileName);
+        if (file != null) {
+            user.setProfileImg(file.getUrl());
         }
         // 2. 삭제 요청이 들어온 경우 (초기화)
         else if (isImageDeleted) {
             user.setProfileImg(null); // DB에서 경로 삭제 (null로 설정)
         }
 
-        return this.userRepository.save(user);
+        // 이전 이미지(와 아바타)는 커밋 후 정리
+        if (oldProfileImg != null && !oldProfileImg.equals(user.getProfileImg())) {
+            this.userRepository.clearProfileThumbPath(user.getId());
+            this.fileStorageService.releaseAfterCommit(oldProfileImg);
+            this.fileStorageService.releaseAfterCommit(user.getProfileThumbPath());
+        }
+
+        SiteUser saved = this.userRepository.save(user);
+        if (file != null) {
+            this.imageVariantService.requestProfileThumbnail(user.getId(), user.getProfileImg());
+        }
+        // 목록/상세에 실린 작성자 프로필 사진
+        this.postRepository.touchByUser(user.getId(), LocalDateTime.now());
+        this.postReadCache.evictAllAfterCommit();
+        this.principalCache.invalidateAfterCommit(username);
+        return saved;
     }
 
     // 비밀번호 변경
@@ -80,24 +120,32 @@ public class UserService {
         // 새 비밀번호로 변경 (암호화)
         user.setPassword(passwordEncoder.encode(newPassword));
         this.userRepository.save(user);
+        this.principalCache.invalidateAfterCommit(username);
     }
 
     // 회원 탈퇴
-    @Transactional
+    // 탈퇴 시각만 기록하고 바로 응답한다. 글/댓글/추천/파일은 커밋 후 AccountPurgeService 가 묶음 단위로 지움
+    // 비밀번호 확인(해시 풀 대기)은 트랜잭션을 열기 전에 끝내서 그동안 DB 커넥션을 잡고 있지 않는다
     public void delete(String username, String password) {
-        SiteUser user = this.getUser(username);
-
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        String verifiedHash = this.getUser(username).getPassword();
+        if (!passwordEncoder.matches(password, verifiedHash)) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        List<Post> likedPosts = postRepository.findByVoterContains(user);
-        for (Post post : likedPosts) {
-            post.getVoter().remove(user);
-            postRepository.save(post);
-        }
-
-        // 사용자 삭제 (작성한 글/댓글은 Cascade로 자동 삭제)
-        this.userRepository.delete(user);
+        this.transactionTemplate.executeWithoutResult(status -> {
+            SiteUser user = this.getUser(username);
+            // 확인하는 사이에 비밀번호가 바뀌었으면 다시 확인하게 한다
+            if (!verifiedHash.equals(user.getPassword())) {
+                throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            user.setWithdrawnAt(now);
+            this.accountPurgeRepository.save(new AccountPurge(user.getId(), username, now));
+
+            // 이 시점부터 로그인/토큰 인증이 막힘
+            this.principalCache.invalidateAfterCommit(username);
+            this.eventPublisher.publishEvent(new AccountWithdrawnEvent(user.getId()));
+        });
     }
 }
@@ -0,0 +1,114 @@
+package com.oak.server.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 조회수 쓰기 지연 버퍼
+// GET 요청마다 UPDATE 하지 않고 글별 LongAdder 에 누적했다가, 주기적으로 한 번의 배치 UPDATE 로 반영한다
+// - 반영할 때는 누적 맵을 통째로 새 맵으로 바꾸고 떼어 낸 맵을 합산한다 (맵이 조회된 글 수만큼 계속 커지지 않음)
+// - 누적은 읽기 잠금, 교체는 쓰기 잠금 안에서 하므로 교체 뒤에는 떼어 낸 맵에 더하는 스레드가 없다 (합산과 누적 사이 유실 없음)
+// - 배치 UPDATE 는 한 트랜잭션으로 묶는다 (중간에 실패하면 전부 롤백되므로 증가분 전체를 다시 넣어도 중복 반영이 없음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "update post set view = view + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB 에 쓰는 중인 맵 (쓰는 동안에도 화면 조회수가 줄어 보이지 않도록 pending() 에 더함)
+    private volatile Map<Long, LongAdder> flushing = Map.of();
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // JDBC 호출을 감싸므로 synchronized 대신 Lock 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 1. 조회수 누적
+    public void increment(Long postId) {
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 2. 아직 DB 에 반영되지 않은 조회수 (읽을 때 더해서 보여줌)
+    public long pending(Long postId) {
+        return sum(pending, postId) + sum(flushing, postId);
+    }
+
+    // 3. 누적된 조회수를 한 번에 반영
+    @Scheduled(fixedDelayString = "${view.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        Map<Long, LongAdder> detached;
+        Lock lock = swapLock.writeLock();
+        lock.lock();
+        try {
+            detached = pending;
+            flushing = detached;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        detached.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, postId});
+            }
+        });
+
+        try {
+            if (!batch.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            }
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백됐으므로 증가분 전체를 다음 주기에 다시 시도 (교체는 flushLock 안에서만 일어나므로 지금 맵에 더하면 됨)
+            batch.forEach(row -> pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]));
+            log.warn("조회수 반영 실패 ({}건), 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    private static long sum(Map<Long, LongAdder> counts, Long postId) {
+        LongAdder adder = counts.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 4. 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
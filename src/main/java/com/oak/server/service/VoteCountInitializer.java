@@ -0,0 +1,30 @@
+package com.oak.server.service;
+
+import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.ReplyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 추천 수 컬럼 재계산 (voteCount 컬럼 도입 직후 또는 보정이 필요할 때만 켠다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "vote.recount-on-startup", havingValue = "true")
+public class VoteCountInitializer {
+
+    private final PostRepository postRepository;
+    private final ReplyRepository replyRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void recount() {
+        int posts = postRepository.recountVotes();
+        int replies = replyRepository.recountVotes();
+        log.info("추천 수 재계산 완료: 글 {}건, 댓글 {}건", posts, replies);
+    }
+}
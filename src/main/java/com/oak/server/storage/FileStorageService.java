@@ -0,0 +1,214 @@
+package com.oak.server.storage;
+
+import com.oak.server.domain.FileRelease;
+import com.oak.server.repository.FileReleaseRepository;
+import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+// 업로드 파일 저장 / 정리
+// - 저장은 DB 트랜잭션 밖(컨트롤러)에서 호출해 디스크 쓰기 동안 커넥션을 잡지 않는다
+// - 파일 이름은 내용의 SHA-256 이므로 같은 이미지는 한 번만 저장된다
+// - 같은 파일을 여러 글/프로필이 함께 쓰므로 참조가 끊겨도 바로 지우지 않는다
+//   커밋 후 file_release 에 삭제 예약만 하고, release-grace 가 지난 뒤 정리 작업이 참조를 다시 확인하고 지운다
+//   (재사용하는 쪽의 트랜잭션이 아직 커밋되지 않아 참조가 안 보이는 사이에 지워지지 않도록)
+// - 같은 키를 다시 쓰는 쪽(업로드, 변형본)은 재사용 전에 reserve 로 예약을 지운다. 정리 중인 키면 정리가 끝날 때까지
+//   기다렸다가 파일이 없으면 다시 저장한다
+@Slf4j
+@Service
+public class FileStorageService {
+
+    public static final String URL_PREFIX = "/files/";
+
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+    private static final int SWEEP_CHUNK = 100;
+
+    private final StoragePort storagePort;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final FileReleaseRepository fileReleaseRepository;
+    // 커밋 후 콜백 안에서도 쓰기가 반영되도록 항상 새 트랜잭션
+    private final TransactionTemplate requiresNew;
+    private final Duration releaseGrace;
+
+    public FileStorageService(StoragePort storagePort,
+                              PostRepository postRepository,
+                              UserRepository userRepository,
+                              FileReleaseRepository fileReleaseRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${file.release.grace:10m}") Duration releaseGrace) {
+        this.storagePort = storagePort;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.fileReleaseRepository = fileReleaseRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.releaseGrace = releaseGrace;
+    }
+
+    // 1. 업로드 저장 (파일이 없으면 null)
+    public StoredFile store(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+
+        Path temp = Files.createTempFile(storagePort.tempDir(), "upload-", ".part");
+        try {
+            // 임시 파일로 스트리밍하면서 해시 계산 (업로드 전체를 메모리에 올리지 않음)
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest()) + extensionOf(file.getOriginalFilename());
+            reserve(key);
+            if (!storagePort.exists(key)) {
+                storagePort.put(key, temp);
+            }
+            return new StoredFile(key, URL_PREFIX + key, file.getOriginalFilename());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 2. 이미 있는 키를 재사용하기 전에 삭제 예약 취소 (파일이 이미 지워졌을 수 있으므로 호출 뒤에 exists 확인)
+    public void reserve(String key) {
+        requiresNew.executeWithoutResult(status -> fileReleaseRepository.cancel(key));
+    }
+
+    // 3. 현재 트랜잭션이 커밋되면, 교체/삭제된 파일 삭제 예약
+    public void releaseAfterCommit(String url) {
+        if (url == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleRelease(url);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleRelease(url);
+            }
+        });
+    }
+
+    // 4. 방금 저장한 파일을 쓰려던 요청이 실패하면 삭제 예약 (컨트롤러의 catch 에서)
+    // 서비스 트랜잭션 안에서 롤백 콜백으로 걸면, 트랜잭션 전(권한/조회 확인)이나 콜백 등록 전에 실패했을 때 파일이 남는다
+    // 같은 내용을 다른 글이 쓰고 있으면 정리 작업이 참조를 보고 남겨 둔다
+    public void discard(StoredFile file) {
+        if (file != null) {
+            scheduleRelease(file.getUrl());
+        }
+    }
+
+    // 5. 삭제 예약 (release-grace 뒤에 참조를 다시 확인하고 지움). 이미 예약된 키면 시각만 미룬다
+    public void scheduleRelease(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return;
+        }
+        String key = url.substring(URL_PREFIX.length());
+        LocalDateTime releaseAfter = LocalDateTime.now().plus(releaseGrace);
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                FileRelease pending = fileReleaseRepository.findById(key).orElseGet(() -> new FileRelease(key, releaseAfter));
+                pending.setReleaseAfter(releaseAfter);
+                fileReleaseRepository.save(pending);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 키를 방금 예약함
+        } catch (RuntimeException e) {
+            log.warn("파일 삭제 예약 실패: {} ({})", url, e.getMessage());
+        }
+    }
+
+    // 6. 예약 시각이 지난 파일 정리 (키마다 한 트랜잭션, 행을 잠근 채 참조 확인 -> 파일 삭제 -> 예약 삭제)
+    @Scheduled(fixedDelayString = "${file.release.sweep-interval-ms:60000}")
+    public void sweepReleased() {
+        List<String> keys = fileReleaseRepository.findDueKeys(LocalDateTime.now(), SWEEP_CHUNK);
+        for (String key : keys) {
+            try {
+                requiresNew.executeWithoutResult(status -> release(key));
+            } catch (RuntimeException e) {
+                log.warn("파일 정리 실패: {} ({})", key, e.getMessage());
+            }
+        }
+    }
+
+    private void release(String key) {
+        FileRelease pending = fileReleaseRepository.findForRelease(key).orElse(null);
+        if (pending == null || pending.getReleaseAfter().isAfter(LocalDateTime.now())) {
+            return; // 그 사이 재사용(reserve) 되었거나 다시 미뤄짐
+        }
+        // 같은 내용의 파일을 다른 글/프로필이 쓰고 있으면 남겨둔다
+        if (!isReferenced(URL_PREFIX + key)) {
+            try {
+                storagePort.delete(key);
+            } catch (IOException e) {
+                log.warn("파일 삭제 실패, 다음 정리 때 다시 시도: {} ({})", key, e.getMessage());
+                return;
+            } catch (IllegalArgumentException e) {
+                log.warn("잘못된 파일 키라 예약만 지웁니다: {} ({})", key, e.getMessage());
+            }
+        }
+        fileReleaseRepository.delete(pending);
+    }
+
+    private boolean isReferenced(String url) {
+        return postRepository.existsByFilePath(url) || postRepository.existsByThumbnailPath(url)
+                || userRepository.existsByProfileImg(url) || userRepository.existsByProfileThumbPath(url);
+    }
+
+    private static String extensionOf(String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String ext = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return ext.matches("[a-z0-9]{1,10}") ? "." + ext : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.oak.server.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 업로드 이미지에서 만드는 고정 크기 변형본
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    // 목록 카드용: 긴 변 기준으로 축소 (비율 유지)
+    THUMBNAIL("thumb", 640, 640, false),
+    // 프로필 아바타용: 가운데를 정사각형으로 잘라 축소
+    AVATAR("avatar", 128, 128, true);
+
+    private final String suffix;
+    private final int width;
+    private final int height;
+    private final boolean crop;
+
+    // 원본 대비 축소 비율 (crop 이면 짧은 변, 아니면 긴 변 기준, 확대는 하지 않음)
+    public double scaleFor(int sourceWidth, int sourceHeight) {
+        double sx = (double) width / sourceWidth;
+        double sy = (double) height / sourceHeight;
+        return Math.min(1.0, crop ? Math.max(sx, sy) : Math.min(sx, sy));
+    }
+}
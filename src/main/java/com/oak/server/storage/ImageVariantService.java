@@ -0,0 +1,280 @@
+package com.oak.server.storage;
+
+import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+// 업로드 이미지 후처리 (썸네일 / 아바타 변형본 생성)
+// - 업로드 트랜잭션이 커밋된 뒤 전용 스레드 풀(큐 길이 제한)에 작업을 넣는다. 큐가 가득 차면 버리고 원본을 그대로 쓴다
+// - 변형본 키는 원본 키에서 정해지므로 (예: {sha256}-thumb.webp) 같은 이미지는 한 번만 만든다
+//   여러 글이 같은 변형본을 쓸 수 있어 업로드 파일과 같이 reserve -> 재사용, 참조가 끊기면 삭제 예약(FileStorageService)으로 관리
+// - 완료되면 원본이 그대로일 때만 Post.thumbnailPath / SiteUser.profileThumbPath 를 채운다
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final StoragePort storagePort;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor;
+    private final String format;
+    private final String extension;
+    private final float quality;
+    private final long maxPixels;
+
+    private final Counter completed;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public ImageVariantService(StoragePort storagePort,
+                               PostRepository postRepository,
+                               UserRepository userRepository,
+                               FileStorageService fileStorageService,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${image.worker-threads:2}") int workerThreads,
+                               @Value("${image.queue-capacity:200}") int queueCapacity,
+                               @Value("${image.format:webp}") String format,
+                               @Value("${image.quality:0.8}") float quality,
+                               @Value("${image.max-pixels:40000000}") long maxPixels) {
+        this.storagePort = storagePort;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = transactionTemplate;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+
+        // 요청한 형식의 ImageIO writer 가 없으면 (기본 JDK 에는 WebP writer 가 없음) JPEG 로 저장
+        if (ImageIO.getImageWritersByFormatName(format).hasNext()) {
+            this.format = format;
+        } else {
+            log.info("ImageIO 에 '{}' writer 가 없어 jpeg 로 변형본을 만듭니다.", format);
+            this.format = "jpeg";
+        }
+        this.extension = "jpeg".equals(this.format) ? "jpg" : this.format.toLowerCase(Locale.ROOT);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "image");
+
+        this.completed = Counter.builder("oak.image.jobs").tag("result", "completed").register(meterRegistry);
+        this.rejected = Counter.builder("oak.image.jobs").tag("result", "rejected").register(meterRegistry);
+        this.failed = Counter.builder("oak.image.jobs").tag("result", "failed").register(meterRegistry);
+    }
+
+    // 1. 글 첨부 이미지 썸네일 (커밋 후 생성)
+    public void requestPostThumbnail(Long postId, String sourceUrl) {
+        afterCommit(() -> submit(ImageVariant.THUMBNAIL, sourceUrl,
+                (variantUrl, source) -> postRepository.updateThumbnailPath(postId, source, variantUrl,
+                        LocalDateTime.now())));
+    }
+
+    // 2. 프로필 이미지 아바타 (커밋 후 생성)
+    public void requestProfileThumbnail(Long userId, String sourceUrl) {
+        afterCommit(() -> submit(ImageVariant.AVATAR, sourceUrl,
+                (variantUrl, source) -> {
+                    int updated = userRepository.updateProfileThumbPath(userId, source, variantUrl);
+                    if (updated > 0) {
+                        postRepository.touchByUser(userId, LocalDateTime.now()); // 목록/상세의 작성자 사진
+                    }
+                    return updated;
+                }));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void submit(ImageVariant variant, String sourceUrl, BiFunction<String, String, Integer> record) {
+        if (sourceUrl == null || !sourceUrl.startsWith(FileStorageService.URL_PREFIX)) {
+            return;
+        }
+        try {
+            executor.execute(() -> process(variant, sourceUrl, record));
+        } catch (RejectedExecutionException e) {
+            // 썸네일이 없으면 원본으로 대신 보여주므로 요청은 실패시키지 않는다
+            rejected.increment();
+            log.warn("이미지 작업 큐가 가득 차 건너뜁니다: {}", sourceUrl);
+        }
+    }
+
+    private void process(ImageVariant variant, String sourceUrl, BiFunction<String, String, Integer> record) {
+        String sourceKey = sourceUrl.substring(FileStorageService.URL_PREFIX.length());
+        String variantKey = variantKeyOf(sourceKey, variant);
+        String variantUrl = FileStorageService.URL_PREFIX + variantKey;
+        try {
+            // 정리 예약된 변형본이면 먼저 취소 (정리 중이었다면 끝난 뒤 exists 가 false 라 다시 만든다)
+            fileStorageService.reserve(variantKey);
+            if (!storagePort.exists(variantKey) && !render(sourceKey, variantKey, variant)) {
+                return; // 이미지가 아닌 첨부 파일
+            }
+
+            // 처리하는 동안 원본이 바뀌었으면 (교체/삭제) 기록하지 않고 변형본도 정리
+            Integer updated = transactionTemplate.execute(status -> record.apply(variantUrl, sourceUrl));
+            if (updated == null || updated == 0) {
+                fileStorageService.scheduleRelease(variantUrl);
+                return;
+            }
+            completed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("이미지 변형본 생성 실패: {} ({})", sourceUrl, e.getMessage());
+        }
+    }
+
+    private boolean render(String sourceKey, String variantKey, ImageVariant variant) throws IOException {
+        BufferedImage source = read(sourceKey, variant);
+        if (source == null) {
+            return false;
+        }
+        BufferedImage resized = resize(source, variant);
+
+        Path temp = Files.createTempFile(storagePort.tempDir(), "variant-", ".part");
+        try {
+            write(resized, temp);
+            storagePort.put(variantKey, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return true;
+    }
+
+    // 디코딩 전에 크기를 확인하고, 목표 크기의 2배 정도까지는 서브샘플링으로 읽어 메모리/CPU 를 아낀다
+    private BufferedImage read(String key, ImageVariant variant) throws IOException {
+        try (InputStream in = storagePort.open(key);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("이미지가 너무 큽니다 (" + width + "x" + height + ")");
+                }
+                int subsampling = Math.max(1, (int) (1 / (2 * variant.scaleFor(width, height))));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, ImageVariant variant) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = variant.scaleFor(width, height);
+        int scaledWidth = Math.max(1, (int) Math.round(width * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(height * scale));
+
+        int targetWidth = variant.isCrop() ? Math.min(variant.getWidth(), scaledWidth) : scaledWidth;
+        int targetHeight = variant.isCrop() ? Math.min(variant.getHeight(), scaledHeight) : scaledHeight;
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            // 투명 배경(PNG/GIF)은 흰색으로 채움
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            int x = (targetWidth - scaledWidth) / 2;
+            int y = (targetHeight - scaledHeight) / 2;
+            g.drawImage(source, x, y, scaledWidth, scaledHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0) {
+                    param.setCompressionType(types[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private String variantKeyOf(String sourceKey, ImageVariant variant) {
+        int dot = sourceKey.lastIndexOf('.');
+        String base = dot < 0 ? sourceKey : sourceKey.substring(0, dot);
+        return base + "-" + variant.getSuffix() + "." + extension;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
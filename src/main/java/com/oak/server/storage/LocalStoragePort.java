@@ -0,0 +1,66 @@
+package com.oak.server.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+// 로컬 파일 시스템 저장소 (기본)
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalStoragePort implements StoragePort {
+
+    private final Path root;
+    private final Path tempDir;
+
+    public LocalStoragePort(@Value("${file.upload-dir}") String uploadDir) throws IOException {
+        this.root = Path.of(uploadDir).toAbsolutePath().normalize();
+        // 같은 파일 시스템 안에 두어야 move 가 복사 없이 원자적으로 끝난다
+        this.tempDir = root.resolve(".tmp");
+        Files.createDirectories(tempDir);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void put(String key, Path tempFile) throws IOException {
+        Files.move(tempFile, resolve(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Path tempDir() {
+        return tempDir;
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,57 @@
+package com.oak.server.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 오브젝트 스토리지(S3 호환) 대용 저장소
+// 키 -> 바이트 단위로 보관하며 디렉터리 개념이 없다. 테스트 / 부하 테스트에서 디스크 없이 사용
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "memory")
+public class MemoryStoragePort implements StoragePort {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Path tempDir;
+
+    public MemoryStoragePort() throws IOException {
+        this.tempDir = Files.createTempDirectory("oak-upload");
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return objects.containsKey(key);
+    }
+
+    @Override
+    public void put(String key, Path tempFile) throws IOException {
+        objects.put(key, Files.readAllBytes(tempFile));
+        Files.deleteIfExists(tempFile);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        byte[] bytes = objects.get(key);
+        if (bytes == null) {
+            throw new FileNotFoundException(key);
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public void delete(String key) {
+        objects.remove(key);
+    }
+
+    @Override
+    public Path tempDir() {
+        return tempDir;
+    }
+}
@@ -0,0 +1,28 @@
+package com.oak.server.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+// 업로드 파일 저장소 (storage.type 설정으로 구현체 선택)
+// 키는 내용 해시 기반이므로 같은 키 = 같은 내용
+public interface StoragePort {
+
+    boolean exists(String key);
+
+    // 임시 파일을 키 위치로 옮긴다 (호출 후 임시 파일은 없어질 수 있음)
+    void put(String key, Path tempFile) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    // 스트리밍 중 임시 파일을 둘 디렉터리
+    Path tempDir();
+
+    // 로컬 디스크에 있는 저장소면 실제 경로 (zero-copy 전송용)
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
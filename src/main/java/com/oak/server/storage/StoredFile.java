@@ -0,0 +1,13 @@
+package com.oak.server.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 저장된 업로드 파일 (url 은 /files/{key})
+@Getter
+@AllArgsConstructor
+public class StoredFile {
+    private String key;
+    private String url;
+    private String originalName;
+}
@@ -0,0 +1,43 @@
+package com.oak.server.trending;
+
+import com.oak.server.event.PostEvent;
+import com.oak.server.event.PostPurgeEvent;
+import com.oak.server.event.ReplyEvent;
+import com.oak.server.event.VoteEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋된 추천/댓글/삭제만 인기글 점수에 반영 (조회는 PostService.increaseView 에서 바로)
+@Component
+@RequiredArgsConstructor
+public class TrendingEventListener {
+
+    private final TrendingService trendingService;
+
+    @TransactionalEventListener
+    public void onVoteEvent(VoteEvent event) {
+        if (event.getTarget() == VoteEvent.Target.POST) {
+            trendingService.recordVote(event.getTargetId(), event.isVoted(), event.getVotedAt());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onReplyEvent(ReplyEvent event) {
+        if (event.getType() == ReplyEvent.Type.CREATED) {
+            trendingService.recordReply(event.getPostId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        if (event.getType() == PostEvent.Type.DELETED) {
+            trendingService.remove(event.getPost().getId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostPurgeEvent(PostPurgeEvent event) {
+        event.getPostIds().forEach(trendingService::remove);
+    }
+}
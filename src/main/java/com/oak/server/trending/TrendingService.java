@@ -0,0 +1,214 @@
+package com.oak.server.trending;
+
+import com.oak.server.domain.TrendingScore;
+import com.oak.server.dto.PostSummary;
+import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.TrendingScoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 인기글(trending) 순위
+// 점수 = Σ 가중치 × 2^(-(지금 - 사건 시각) / 반감기)  (가중치: 조회 1, 추천 vote-weight, 댓글 reply-weight)
+// - 모든 글의 점수를 매번 감쇠시키지 않도록 기준 시각(epoch)에 대한 "앞당긴" 점수 w × 2^((t - epoch) / 반감기) 를 더해 둔다
+//   같은 시점에 비교하면 순서가 같으므로 순위는 이 값으로 정한다 (forward decay). 값이 커지면 epoch 를 옮겨 다시 줄임
+// - 조회/추천/댓글이 생길 때마다 해당 글 점수만 O(1) 로 갱신
+// - refresh-interval 마다 상위 N 건을 골라 요약 DTO 까지 채운 스냅샷을 만들고, 조회는 그 스냅샷을 그대로 돌려준다 (DB 조회 없음)
+// - persist-interval 마다 상위 N 건을 trending_score 테이블에 저장, 기동 시 불러옴
+@Slf4j
+@Service
+public class TrendingService implements SmartInitializingSingleton {
+
+    // 2^이 값을 넘으면 epoch 를 옮김 (double 범위 안에서 여유 있게)
+    private static final double REBASE_EXPONENT = 256;
+
+    private final PostRepository postRepository;
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final double halfLifeMillis;
+    private final double voteWeight;
+    private final double replyWeight;
+    private final int size;
+    private final int maxTracked;
+
+    // 글 id -> epoch 기준 앞당긴 점수
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+    private volatile long epochMillis = System.currentTimeMillis();
+    // 점수 갱신(읽기 잠금)끼리는 동시에, epoch 옮기기(쓰기 잠금)와는 겹치지 않게
+    // 옮기는 도중 옛 epoch 로 더한 점수가 다시 줄여지지 않고 남는 일이 없도록
+    private final ReadWriteLock epochLock = new ReentrantReadWriteLock();
+
+    // 조회용 스냅샷 (순위 순서)
+    private volatile List<PostSummary> snapshot = List.of();
+
+    public TrendingService(PostRepository postRepository,
+                           TrendingScoreRepository trendingScoreRepository,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${trending.half-life:6h}") Duration halfLife,
+                           @Value("${trending.vote-weight:10}") double voteWeight,
+                           @Value("${trending.reply-weight:5}") double replyWeight,
+                           @Value("${trending.size:100}") int size,
+                           @Value("${trending.max-tracked:100000}") int maxTracked) {
+        this.postRepository = postRepository;
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.voteWeight = voteWeight;
+        this.replyWeight = replyWeight;
+        this.size = size;
+        this.maxTracked = maxTracked;
+        Gauge.builder("oak.trending.tracked", scores, Map::size).register(meterRegistry);
+    }
+
+    // 기동 시 저장된 점수 불러오기 (웹 서버 시작 전)
+    @Override
+    public void afterSingletonsInstantiated() {
+        long now = System.currentTimeMillis();
+        trendingScoreRepository.findAll().forEach(saved -> {
+            long scoredAt = saved.getScoredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            add(saved.getPostId(), saved.getScore() * Math.pow(2, (scoredAt - now) / halfLifeMillis), now);
+        });
+        refresh();
+        log.info("인기글 점수 {}건 불러옴", scores.size());
+    }
+
+    // 1. 조회 (PostService.increaseView)
+    public void recordView(Long postId) {
+        add(postId, 1, System.currentTimeMillis());
+    }
+
+    // 2. 추천 / 추천 취소
+    // 취소는 원래 추천 시각(votedAt)으로 같은 가중치를 빼서, 그 추천이 더했던 만큼(지금까지 감쇠된 만큼)만 없앤다
+    // (지금 시각으로 빼면 며칠 전 추천 취소가 조회/댓글 점수까지 지움). 시각을 모르는 예전 추천은 이미 감쇠됐다고 보고 빼지 않음
+    public void recordVote(Long postId, boolean voted, LocalDateTime votedAt) {
+        if (voted) {
+            add(postId, voteWeight, System.currentTimeMillis());
+        } else if (votedAt != null) {
+            add(postId, -voteWeight, votedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    // 3. 댓글 작성
+    public void recordReply(Long postId) {
+        add(postId, replyWeight, System.currentTimeMillis());
+    }
+
+    // 4. 글 삭제
+    public void remove(Long postId) {
+        scores.remove(postId);
+        if (snapshot.stream().anyMatch(summary -> summary.getId().equals(postId))) {
+            snapshot = snapshot.stream().filter(summary -> !summary.getId().equals(postId)).toList();
+        }
+    }
+
+    // 5. 인기글 목록 (스냅샷 앞부분, 상수 시간)
+    public List<PostSummary> getTrending(int limit) {
+        List<PostSummary> current = snapshot;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    private void add(Long postId, double weight, long atMillis) {
+        epochLock.readLock().lock();
+        try {
+            double forward = weight * Math.pow(2, (atMillis - epochMillis) / halfLifeMillis);
+            scores.compute(postId, (id, score) -> Math.max(0, (score == null ? 0 : score) + forward));
+        } finally {
+            epochLock.readLock().unlock();
+        }
+    }
+
+    // 상위 N 건 스냅샷 갱신 (요약 DTO 는 한 번의 IN 조회로)
+    @Scheduled(fixedDelayString = "${trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        rebaseIfNeeded();
+        List<Long> top = topIds(size);
+        Map<Long, PostSummary> byId = top.isEmpty() ? Map.of() : postRepository.findSummariesByIdIn(top).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        // 이미 삭제된 글은 점수에서도 뺌
+        top.stream().filter(id -> !byId.containsKey(id)).forEach(scores::remove);
+        snapshot = top.stream().map(byId::get).filter(Objects::nonNull).toList();
+        prune();
+    }
+
+    // 상위 N 건 저장 (감쇠된 현재 점수로)
+    @Scheduled(fixedDelayString = "${trending.persist-interval-ms:60000}", initialDelayString = "${trending.persist-interval-ms:60000}")
+    public void persist() {
+        long now = System.currentTimeMillis();
+        LocalDateTime scoredAt = LocalDateTime.now();
+        List<TrendingScore> rows;
+        // 점수와 epoch 를 같은 기준으로 읽음
+        epochLock.readLock().lock();
+        try {
+            double scale = Math.pow(2, (epochMillis - now) / halfLifeMillis);
+            rows = topIds(size).stream()
+                    .map(id -> new TrendingScore(id, scores.getOrDefault(id, 0.0) * scale, scoredAt))
+                    .toList();
+        } finally {
+            epochLock.readLock().unlock();
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            trendingScoreRepository.deleteAllScores();
+            trendingScoreRepository.saveAll(rows);
+        });
+    }
+
+    private List<Long> topIds(int n) {
+        return scores.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(n)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 추적 중인 글이 너무 많으면 점수가 낮은 쪽부터 버림
+    private void prune() {
+        int excess = scores.size() - maxTracked;
+        if (excess <= 0) {
+            return;
+        }
+        scores.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(scores::remove);
+    }
+
+    // epoch 를 지금으로 옮기고 모든 점수를 같은 비율로 줄임 (순위는 그대로)
+    // 반감기 수백 번에 한 번뿐이라 그동안 갱신을 잠시 세워도 된다
+    private void rebaseIfNeeded() {
+        long now = System.currentTimeMillis();
+        if ((now - epochMillis) / halfLifeMillis < REBASE_EXPONENT) {
+            return;
+        }
+        epochLock.writeLock().lock();
+        try {
+            double scale = Math.pow(2, -(now - epochMillis) / halfLifeMillis);
+            epochMillis = now;
+            scores.replaceAll((id, score) -> score * scale);
+        } finally {
+            epochLock.writeLock().unlock();
+        }
+    }
+}
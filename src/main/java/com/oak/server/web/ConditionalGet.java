@@ -0,0 +1,16 @@
+package com.oak.server.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// GET 핸들러에 붙이면 ConditionalGetInterceptor 가 실행 전에 버전을 확인해
+// If-None-Match / If-Modified-Since 가 맞으면 핸들러 없이 304 를 돌려준다
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    // 버전을 계산할 빈 타입
+    Class<? extends ResourceVersionProvider> value();
+}
@@ -0,0 +1,56 @@
+package com.oak.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// @ConditionalGet 핸들러의 조건부 요청 처리
+// - 304 면 핸들러를 실행하지 않으므로 본문 조회 / JSON 직렬화가 일어나지 않는다
+// - 200 이면 ETag / Last-Modified 를 붙여 둔다 (본문은 핸들러가 만듦, 본문 기준 버전이 있으면 ConditionalGetResponseAdvice 가 바꿈)
+// - 응답이 사용자마다 다를 수 있어 private + 매번 재검증 (Spring Security 기본값 no-store 대신)
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        ResourceVersionProvider provider = applicationContext.getBean(conditionalGet.value());
+        ResourceVersion version = provider.currentVersion(request);
+        if (version == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        boolean notModified = version.lastModified() == null
+                ? webRequest.checkNotModified(version.etag())
+                : webRequest.checkNotModified(version.etag(), version.lastModified().toEpochMilli());
+        if (notModified) {
+            provider.notModified(request);
+        }
+        return !notModified;
+    }
+}
@@ -0,0 +1,52 @@
+package com.oak.server.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// @ConditionalGet 핸들러의 200 응답: 보낸 본문 기준 버전이 있으면 ETag / Last-Modified 를 그 값으로 바꾼다
+// (인터셉터가 붙인 값은 DB 의 현재 버전이라, 캐시에서 나온 옛 본문과 어긋날 수 있음)
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ConditionalGet.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        ConditionalGet conditionalGet = returnType.getMethodAnnotation(ConditionalGet.class);
+        ResourceVersion version = applicationContext.getBean(conditionalGet.value())
+                .versionOf(servletRequest.getServletRequest(), body);
+        if (version == null) {
+            return body;
+        }
+
+        HttpServletResponse raw = servletResponse.getServletResponse();
+        raw.setHeader(HttpHeaders.ETAG, version.etag());
+        if (version.lastModified() != null) {
+            raw.setDateHeader(HttpHeaders.LAST_MODIFIED, version.lastModified().toEpochMilli());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,11 @@
+package com.oak.server.web;
+
+import java.time.Instant;
+
+// 조건부 GET 검증값 (ETag 는 필수, Last-Modified 는 없으면 null)
+public record ResourceVersion(String etag, Instant lastModified) {
+
+    public static ResourceVersion of(String etag) {
+        return new ResourceVersion(etag, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.oak.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 요청이 가리키는 자원의 현재 버전을 가볍게 조회 (본문을 만들지 않고 버전 컬럼만 읽음)
+// null 을 돌려주면 조건부 처리 없이 핸들러를 그대로 실행한다 (검색 요청, 없는 글 등)
+public interface ResourceVersionProvider {
+
+    ResourceVersion currentVersion(HttpServletRequest request);
+
+    // 200 응답에 실을 검증값을 실제로 보낸 본문에서 계산 (null 이면 currentVersion 값을 그대로 씀)
+    // 본문이 캐시에서 나와 DB 보다 늦을 수 있는 자원은 구현해야 한다: 304 판단은 DB 버전으로 하되,
+    // 옛 본문에 새 ETag 가 붙으면 클라이언트가 다음 변경 전까지 옛 본문을 304 로 계속 쓰게 됨
+    default ResourceVersion versionOf(HttpServletRequest request, Object body) {
+        return null;
+    }
+
+    // 304 로 끝난 요청 (핸들러가 실행되지 않으므로 조회수처럼 요청마다 필요한 부수 작업)
+    default void notModified(HttpServletRequest request) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.oak.server.cache;
+
+import com.oak.server.dto.PostDetail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 읽기 캐시: 같은 키 동시 조회는 한 번만 읽고, 조회 중 지우기가 있었으면 남기지 않으며, 커밋 후에만 지우는지
+class PostReadCacheTest {
+
+    private static final Long POST_ID = 1L;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        PostReadCache cache = newCache(null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int readers = 8;
+
+        ExecutorService pool = Executors.newFixedThreadPool(readers);
+        List<Future<PostDetail>> futures = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            futures.add(pool.submit(() -> cache.getDetail(POST_ID, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return detail(1);
+            })));
+        }
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100); // 나머지 요청이 읽는 중인 값을 기다리도록
+        release.countDown();
+
+        for (Future<PostDetail> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).getRevision()).isEqualTo(1);
+        }
+        pool.shutdown();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void valueLoadedDuringEvictionIsNotKept() {
+        InMemorySharedCacheTier shared = new InMemorySharedCacheTier();
+        PostReadCache cache = newCache(shared);
+
+        // 읽는 사이에 쓰기가 커밋되어 지우기가 일어남 -> 읽은 값은 이번 요청에만 쓰고 버림
+        PostDetail first = cache.getDetail(POST_ID, () -> {
+            cache.evictPost(POST_ID);
+            return detail(1);
+        });
+        assertThat(first.getRevision()).isEqualTo(1);
+        assertThat(shared.get("post:" + POST_ID)).isEmpty();
+
+        AtomicInteger loads = new AtomicInteger();
+        PostDetail second = cache.getDetail(POST_ID, () -> {
+            loads.incrementAndGet();
+            return detail(2);
+        });
+        assertThat(second.getRevision()).isEqualTo(2);
+        assertThat(loads).hasValue(1);
+
+        // 이번 값은 남아 있음
+        assertThat(cache.getDetail(POST_ID, () -> detail(3)).getRevision()).isEqualTo(2);
+    }
+
+    @Test
+    void evictAllWaitsForCommit() {
+        PostReadCache cache = newCache(null);
+        cache.getDetail(POST_ID, () -> detail(1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evictAllAfterCommit();
+
+        // 커밋 전에는 그대로 (먼저 지우면 다른 요청이 커밋 전 값을 다시 채움)
+        assertThat(cache.getDetail(POST_ID, () -> detail(2)).getRevision()).isEqualTo(1);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.getDetail(POST_ID, () -> detail(2)).getRevision()).isEqualTo(2);
+    }
+
+    @Test
+    void cachedDetailIsCopiedPerRequest() {
+        PostReadCache cache = newCache(null);
+
+        PostDetail mine = cache.getDetail(POST_ID, () -> detail(1));
+        mine.setLiked(true);
+        mine.setView(10);
+
+        PostDetail other = cache.getDetail(POST_ID, () -> detail(2));
+        assertThat(other.isLiked()).isFalse();
+        assertThat(other.getView()).isZero();
+    }
+
+    private static PostReadCache newCache(SharedCacheTier shared) {
+        StaticListableBeanFactory beans = shared == null
+                ? new StaticListableBeanFactory()
+                : new StaticListableBeanFactory(Map.of("sharedCacheTier", shared));
+        return new PostReadCache(true, 3, 100, Duration.ofSeconds(10), Duration.ofSeconds(60),
+                beans.getBeanProvider(SharedCacheTier.class), new SimpleMeterRegistry());
+    }
+
+    private static PostDetail detail(long revision) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PostDetail(POST_ID, "제목", "내용", null, null, now, null, 5,
+                "author", null, 0, 0, revision, now);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
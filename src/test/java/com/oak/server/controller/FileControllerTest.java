@@ -0,0 +1,108 @@
+package com.oak.server.controller;
+
+import com.oak.server.storage.LocalStoragePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 파일 서빙: 강한 ETag + immutable 캐시, 일치하면 304, Range 는 206 / 범위 밖은 416, If-Range 가 다르면 전체, 사전 압축본
+class FileControllerTest {
+
+    private static final String KEY = "0123abcd.txt";
+    private static final String BODY = "0123456789";
+
+    @TempDir
+    Path uploadDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(uploadDir.resolve(KEY), BODY);
+        FileController controller = new FileController(new LocalStoragePort(uploadDir.toString()), 49152);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void servesWholeFileWithStrongEtagAndImmutableCache() throws Exception {
+        MockHttpServletResponse response = fetch(MockMvcRequestBuilders.get("/files/" + KEY));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + KEY + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    void matchingEtagIsNotModified() throws Exception {
+        MockHttpServletResponse response = fetch(MockMvcRequestBuilders.get("/files/" + KEY)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + KEY + "\""));
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void singleRangeIsPartialContent() throws Exception {
+        MockHttpServletResponse response = fetch(MockMvcRequestBuilders.get("/files/" + KEY)
+                .header(HttpHeaders.RANGE, "bytes=2-5"));
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+    }
+
+    @Test
+    void rangeBeyondTheFileIsNotSatisfiable() throws Exception {
+        MockHttpServletResponse response = fetch(MockMvcRequestBuilders.get("/files/" + KEY)
+                .header(HttpHeaders.RANGE, "bytes=20-"));
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void staleIfRangeSendsWholeFile() throws Exception {
+        MockHttpServletResponse response = fetch(MockMvcRequestBuilders.get("/files/" + KEY)
+                .header(HttpHeaders.RANGE, "bytes=2-5")
+                .header(HttpHeaders.IF_RANGE, "\"other\""));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void precompressedVariantHasItsOwnEtag() throws Exception {
+        Files.writeString(uploadDir.resolve(KEY + ".gz"), "gzipped");
+
+        MockHttpServletResponse response = fetch(MockMvcRequestBuilders.get("/files/" + KEY)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + KEY + "-gzip\"");
+        assertThat(response.getContentAsString()).isEqualTo("gzipped");
+    }
+
+    @Test
+    void missingFileIsNotFound() throws Exception {
+        assertThat(fetch(MockMvcRequestBuilders.get("/files/missing.txt")).getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse fetch(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+}
@@ -0,0 +1,106 @@
+package com.oak.server.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool("primary-a", "jdbc:h2:mem:routing-primary-a;DB_CLOSE_DELAY=-1"),
+                replica("replica-1", "jdbc:h2:mem:routing-replica-a;DB_CLOSE_DELAY=-1"));
+
+        assertThat(readOnlyUrl(routing)).contains("routing-replica-a");
+        assertThat(urlOf(routing.getConnection())).contains("routing-primary-a");
+        assertThat(routeCount("replica-1", "read")).isEqualTo(1);
+        assertThat(routeCount("primary", "write")).isEqualTo(1);
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenNoReplicasAreConfigured() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool("primary-b", "jdbc:h2:mem:routing-primary-b;DB_CLOSE_DELAY=-1"));
+
+        assertThat(readOnlyUrl(routing)).contains("routing-primary-b");
+        assertThat(routeCount("primary", "fallback")).isEqualTo(1);
+    }
+
+    @Test
+    void unreachableReplicaIsMarkedDownAndSkipped() throws SQLException {
+        HikariDataSource down = pool("replica-down", "jdbc:h2:tcp://localhost:1/replica-down");
+        down.setConnectionTimeout(250);
+        down.setInitializationFailTimeout(-1);
+        ReplicaPool downReplica = new ReplicaPool("replica-1", down, "", 5);
+        ReplicaPool upReplica = new ReplicaPool("replica-2",
+                pool("replica-up", "jdbc:h2:mem:routing-replica-c;DB_CLOSE_DELAY=-1"), "", 5);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                pool("primary-c", "jdbc:h2:mem:routing-primary-c;DB_CLOSE_DELAY=-1"),
+                List.of(downReplica, upReplica), new ReadYourWrites(Duration.ofSeconds(5), 100), meterRegistry);
+
+        assertThat(readOnlyUrl(routing)).contains("routing-replica-c");
+        assertThat(downReplica.isHealthy()).isFalse();
+        // 빠진 복제본은 다음 점검 전까지 건너뜀
+        assertThat(readOnlyUrl(routing)).contains("routing-replica-c");
+        assertThat(routeCount("replica-2", "read")).isEqualTo(2);
+    }
+
+    private ReplicaRoutingDataSource routing(HikariDataSource primary, ReplicaPool... replicas) {
+        return new ReplicaRoutingDataSource(primary, List.of(replicas),
+                new ReadYourWrites(Duration.ofSeconds(5), 100), meterRegistry);
+    }
+
+    private ReplicaPool replica(String name, String url) {
+        return new ReplicaPool(name, pool(name, url), "", 5);
+    }
+
+    private HikariDataSource pool(String name, String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    // @Transactional(readOnly = true) 안에서 커넥션을 꺼낼 때와 같은 상태
+    private static String readOnlyUrl(ReplicaRoutingDataSource routing) throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return urlOf(routing.getConnection());
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private static String urlOf(Connection connection) throws SQLException {
+        try (connection) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    private double routeCount(String pool, String reason) {
+        return meterRegistry.get("oak.datasource.route").tag("pool", pool).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,222 @@
+package com.oak.server.live;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실시간 피드: 재연결 시 링 버퍼에서 놓친 이벤트만 다시 보내고, 링 버퍼 밖/모르는 번호면 resync,
+// 구독자 대기열에서는 추천 변화를 글별로 (사이에 다른 이벤트가 없을 때만) 합치고 넘치면 resync 를 먼저 보내는지
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class LiveFeedBroadcasterTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+    private static final Pattern DELTA = Pattern.compile("delta=(-?\\d+)");
+    private static final int RING_SIZE = 1024; // live.ring-size
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private LiveFeedBroadcaster broadcaster;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void reconnectReplaysOnlyMissedEvents() throws Exception {
+        MockHttpServletResponse live = subscribe(null);
+        String first = publishPost();
+        awaitContent(live, first);
+        long firstId = lastEventId(live);
+
+        String second = publishPost();
+        String third = publishPost();
+        awaitContent(live, third);
+
+        MockHttpServletResponse resumed = subscribe(firstId);
+        awaitContent(resumed, third);
+
+        String replayed = resumed.getContentAsString();
+        assertThat(replayed).contains(second).doesNotContain(first).doesNotContain("event:resync");
+        assertThat(replayed).contains("id:" + (firstId + 1), "id:" + (firstId + 2));
+    }
+
+    @Test
+    void unknownLastEventIdResyncs() throws Exception {
+        MockHttpServletResponse live = subscribe(null);
+        String marker = publishPost();
+        awaitContent(live, marker);
+
+        // 서버 재시작 전 번호 (지금보다 큼)
+        MockHttpServletResponse restarted = subscribe(lastEventId(live) + 1_000_000);
+        awaitContent(restarted, "event:resync");
+    }
+
+    @Test
+    void reconnectOutsideTheRingResyncs() throws Exception {
+        MockHttpServletResponse live = subscribe(null);
+        String marker = publishPost();
+        awaitContent(live, marker);
+        long lastSeen = lastEventId(live);
+
+        // 링 버퍼를 한 바퀴 넘게 돌림
+        for (int i = 0; i <= RING_SIZE; i++) {
+            publishPost();
+        }
+
+        MockHttpServletResponse resumed = subscribe(lastSeen);
+        awaitContent(resumed, "event:resync");
+        assertThat(resumed.getContentAsString()).doesNotContain("id:" + (lastSeen + 1) + "\n");
+    }
+
+    @Test
+    void voteChangesAreCoalescedPerPost() throws Exception {
+        List<Runnable> sends = new ArrayList<>();
+        RecordingEmitter emitter = new RecordingEmitter();
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, 16, sends::add);
+
+        subscriber.offer(new LiveEvent(1, LiveEvent.VOTE_CHANGED, new LiveEvent.VoteChanged(7L, 1)));
+        subscriber.offer(new LiveEvent(2, LiveEvent.VOTE_CHANGED, new LiveEvent.VoteChanged(7L, 1)));
+        subscriber.offer(new LiveEvent(3, LiveEvent.VOTE_CHANGED, new LiveEvent.VoteChanged(7L, 1)));
+        subscriber.offer(new LiveEvent(4, LiveEvent.POST_CREATED, "post-4"));
+        subscriber.offer(new LiveEvent(5, LiveEvent.VOTE_CHANGED, new LiveEvent.VoteChanged(8L, -1)));
+
+        // 전송은 한 번만 예약되고, 그 사이 들어온 추천은 글별로 하나 (마지막 번호, 변화량 합)
+        assertThat(sends).hasSize(1);
+        sends.getFirst().run();
+
+        assertThat(emitter.sent).hasSize(3);
+        assertThat(emitter.sent.get(0)).contains("id:3", "event:vote-changed", "postId=7", "delta=3");
+        assertThat(emitter.sent.get(1)).contains("id:4", "event:post-created", "post-4");
+        assertThat(emitter.sent.get(2)).contains("id:5", "postId=8", "delta=-1");
+    }
+
+    @Test
+    void reconnectBetweenVoteChangesLosesNoDelta() throws Exception {
+        List<Runnable> sends = new ArrayList<>();
+        RecordingEmitter emitter = new RecordingEmitter();
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, 16, sends::add);
+        List<LiveEvent> ring = List.of(
+                new LiveEvent(1, LiveEvent.VOTE_CHANGED, new LiveEvent.VoteChanged(7L, 1)),
+                new LiveEvent(2, LiveEvent.POST_CREATED, "post-2"),
+                new LiveEvent(3, LiveEvent.VOTE_CHANGED, new LiveEvent.VoteChanged(7L, 1)));
+
+        ring.forEach(subscriber::offer);
+        sends.getFirst().run();
+
+        // 사이에 다른 이벤트가 있으면 합치지 않음 (합치면 id:2 까지 받은 클라이언트에게 1번 변화가 빠짐)
+        assertThat(emitter.sent).hasSize(3);
+        assertThat(emitter.sent.get(0)).contains("id:1", "delta=1");
+        assertThat(emitter.sent.get(2)).contains("id:3", "delta=1");
+
+        // id:2 까지 받고 끊김 -> Last-Event-ID: 2 로 재연결하면 링 버퍼에서 3번만 다시 받음
+        long lastEventId = 2;
+        int received = emitter.sent.stream()
+                .filter(sent -> sequenceOf(sent) <= lastEventId)
+                .mapToInt(LiveFeedBroadcasterTest::deltaOf)
+                .sum();
+        int replayed = ring.stream()
+                .filter(event -> event.sequence() > lastEventId)
+                .map(LiveEvent::data)
+                .filter(LiveEvent.VoteChanged.class::isInstance)
+                .mapToInt(data -> ((LiveEvent.VoteChanged) data).delta())
+                .sum();
+        assertThat(received + replayed).isEqualTo(2);
+    }
+
+    @Test
+    void overflowingSubscriberGetsResyncFirst() throws Exception {
+        List<Runnable> sends = new ArrayList<>();
+        RecordingEmitter emitter = new RecordingEmitter();
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, 2, sends::add);
+
+        for (long seq = 1; seq <= 3; seq++) {
+            subscriber.offer(new LiveEvent(seq, LiveEvent.POST_CREATED, "post-" + seq));
+        }
+        sends.getFirst().run();
+
+        assertThat(emitter.sent).hasSize(3);
+        assertThat(emitter.sent.get(0)).contains("event:resync");
+        assertThat(emitter.sent.get(1)).contains("id:2");
+        assertThat(emitter.sent.get(2)).contains("id:3");
+    }
+
+    private MockHttpServletResponse subscribe(Long lastEventId) throws Exception {
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders.get("/api/posts/live");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId.toString());
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private String publishPost() {
+        String title = "실시간 " + UUID.randomUUID();
+        broadcaster.publish(LiveEvent.POST_CREATED, new LiveEvent.PostCreated(0L, title, "live", "2026-01-01"));
+        return title;
+    }
+
+    private static long lastEventId(MockHttpServletResponse response) throws Exception {
+        Matcher matcher = EVENT_ID.matcher(response.getContentAsString());
+        long last = -1;
+        while (matcher.find()) {
+            last = Long.parseLong(matcher.group(1));
+        }
+        assertThat(last).isPositive();
+        return last;
+    }
+
+    private static long sequenceOf(String sent) {
+        Matcher matcher = EVENT_ID.matcher(sent);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private static int deltaOf(String sent) {
+        Matcher matcher = DELTA.matcher(sent);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!response.getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(response.getContentAsString()).contains(expected);
+    }
+
+    // 보낸 이벤트를 SSE 문자열로 기록 (data 객체는 toString)
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining()));
+        }
+    }
+}
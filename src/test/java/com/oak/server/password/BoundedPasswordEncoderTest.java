@@ -0,0 +1,78 @@
+package com.oak.server.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 해시 전용 풀: 평소에는 그대로 해시/확인하고, 대기열이 가득 차거나 기다리는 시간이 넘으면 429 + Retry-After
+class BoundedPasswordEncoderTest {
+
+    // 스레드 하나를 1초 안팎 붙잡는 강도
+    private static final int SLOW_STRENGTH = 14;
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void shutdown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void encodesAndMatchesIncludingLegacyHashes() {
+        encoder = newEncoder(4, 4, Duration.ofSeconds(5));
+
+        String encoded = encoder.encode("password");
+
+        assertThat(encoded).startsWith("{bcrypt}");
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        // 접두어 없는 기존 BCrypt 해시
+        assertThat(encoder.matches("password", new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+    }
+
+    @Test
+    void fullQueueIsRejectedWith429() throws Exception {
+        encoder = newEncoder(SLOW_STRENGTH, 1, Duration.ofSeconds(30));
+
+        // 하나는 계산 중, 하나는 대기열에
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        Thread.sleep(100); // 첫 작업이 스레드에 올라가도록
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        Thread.sleep(100);
+
+        assertThat(running).isNotDone();
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOfSatisfying(PasswordHashingBusyException.class, busy -> {
+                    assertThat(busy.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(busy.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                });
+
+        assertThat(running.join()).startsWith("{bcrypt}");
+        assertThat(queued.join()).startsWith("{bcrypt}");
+    }
+
+    @Test
+    void slowHashIsRejectedWith429AfterWaitTimeout() {
+        encoder = newEncoder(SLOW_STRENGTH, 4, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOfSatisfying(PasswordHashingBusyException.class, busy ->
+                        assertThat(busy.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    private static BoundedPasswordEncoder newEncoder(int bcryptStrength, int queueCapacity, Duration waitTimeout) {
+        return new BoundedPasswordEncoder(new SimpleMeterRegistry(), "bcrypt", false, Duration.ofMillis(250),
+                bcryptStrength, 14, 19456, 2, 10, 1, queueCapacity, waitTimeout);
+    }
+}
@@ -0,0 +1,125 @@
+package com.oak.server.service;
+
+import com.oak.server.domain.AccountPurge;
+import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.PostBatchItem;
+import com.oak.server.repository.AccountPurgeRepository;
+import com.oak.server.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 탈퇴 정리 재개: 재시작 등으로 멈춘 작업을 다시 넣었을 때 끝까지 지우고, 카운터는 한 번만 줄이는지
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class AccountPurgeResumeTest {
+
+    @Autowired
+    private AccountPurgeService accountPurgeService;
+    @Autowired
+    private AccountPurgeRepository accountPurgeRepository;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private ReplyService replyService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void resumedPurgeRemovesEverythingAndAdjustsCountersOnce() throws InterruptedException {
+        SiteUser leaving = newUser("leaving");
+        SiteUser other = newUser("other");
+        writePosts(leaving, 3);
+        writePosts(other, 1);
+        Long leavingPost = postIds(leaving).get(0);
+        Long otherPost = postIds(other).get(0);
+
+        postService.vote(otherPost, leaving);
+        postService.vote(leavingPost, other);
+        replyService.write(leavingPost, "남는 회원의 댓글", other);
+        replyService.write(otherPost, "탈퇴하는 회원의 댓글", leaving);
+
+        // 탈퇴는 커밋됐지만 정리는 시작하지 못한 채 멈춘 상태 (커밋 후 이벤트 없이 account_purge 행만)
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            SiteUser user = userRepository.findById(leaving.getId()).orElseThrow();
+            user.setWithdrawnAt(now);
+            accountPurgeRepository.save(new AccountPurge(leaving.getId(), leaving.getUsername(), now));
+        });
+
+        accountPurgeService.resumePending();
+        accountPurgeService.resumePending(); // 진행 중인 작업은 다시 넣지 않음
+        AccountPurge purge = awaitCompleted(leaving.getId());
+
+        assertThat(purge.getStage()).isEqualTo(AccountPurge.Stage.DONE);
+        assertThat(purge.getPosts()).isEqualTo(3);
+        assertThat(purge.getReplies()).isEqualTo(1);
+        assertThat(purge.getPostVotes()).isEqualTo(1);
+        assertThat(count("select count(*) from site_user where id = ?", leaving.getId())).isZero();
+        assertThat(count("select count(*) from post where author_id = ?", leaving.getId())).isZero();
+        assertThat(count("select count(*) from reply where author_id = ?", leaving.getId())).isZero();
+        // 탈퇴자가 누른 추천, 탈퇴자 글에 남긴 추천/댓글은 한 번씩만 빠짐
+        assertThat(count("select vote_count from post where id = ?", otherPost)).isZero();
+        assertThat(count("select like_count from site_user where id = ?", other.getId())).isZero();
+        assertThat(count("select reply_count from site_user where id = ?", other.getId())).isZero();
+        assertThat(count("select post_count from site_user where id = ?", other.getId())).isEqualTo(1);
+
+        // 끝난 작업은 다시 돌려도 그대로
+        accountPurgeService.resumePending();
+        assertThat(accountPurgeRepository.findByCompletedAtIsNull())
+                .noneMatch(pending -> pending.getUserId().equals(leaving.getId()));
+    }
+
+    private AccountPurge awaitCompleted(Long userId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            AccountPurge purge = accountPurgeRepository.findById(userId).orElseThrow();
+            if (purge.getCompletedAt() != null) {
+                return purge;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("탈퇴 정리가 끝나지 않았습니다: 회원 " + userId);
+    }
+
+    private void writePosts(SiteUser author, int count) {
+        List<PostBatchItem> items = IntStream.range(0, count).mapToObj(i -> {
+            PostBatchItem item = new PostBatchItem();
+            item.setTitle(author.getUsername() + " 글 " + i);
+            item.setContent("내용 " + i);
+            return item;
+        }).toList();
+        postService.writeAll(items, author, count, progress -> {
+        });
+    }
+
+    private List<Long> postIds(SiteUser author) {
+        return jdbcTemplate.queryForList("select id from post where author_id = ? order by id", Long.class, author.getId());
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    private SiteUser newUser(String prefix) {
+        SiteUser user = new SiteUser();
+        user.setUsername(prefix + "-" + UUID.randomUUID());
+        user.setEmail(user.getUsername() + "@oak.test");
+        user.setPassword("{noop}password");
+        return userRepository.save(user);
+    }
+}
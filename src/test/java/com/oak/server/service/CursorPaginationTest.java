@@ -0,0 +1,131 @@
+package com.oak.server.service;
+
+import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.CursorSlice;
+import com.oak.server.dto.LikedPost;
+import com.oak.server.dto.PostBatchItem;
+import com.oak.server.dto.PostSummary;
+import com.oak.server.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커서 페이징: 같은 시각의 글이 여러 건이어도 빠지거나 겹치지 않고 끝까지 이어지는지
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class CursorPaginationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ActivityCountInitializer activityCountInitializer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void myPostsPageThroughTiesWithoutGapsOrDuplicates() {
+        SiteUser author = newUser("cursor-author");
+        // 앞 10건은 작성 시각이 같음 -> (작성 시각, id) 로 이어져야 함
+        writePosts(author, 25, i -> i < 10 ? BASE : BASE.plusMinutes(i));
+
+        List<PostSummary> all = collect(cursor -> postService.getMyPosts(author, cursor, 10));
+
+        assertThat(all).hasSize(25);
+        assertThat(all).extracting(PostSummary::getId).doesNotHaveDuplicates();
+        assertNewestFirst(all);
+    }
+
+    @Test
+    void feedPagesThroughAllPostsNewestFirst() {
+        SiteUser author = newUser("feed-author");
+        writePosts(author, 12, i -> BASE.minusYears(1));
+        Long total = jdbcTemplate.queryForObject("select count(*) from post", Long.class);
+
+        List<PostSummary> all = collect(cursor -> postService.getFeed(cursor, 7, null));
+
+        assertThat(all).hasSize(total.intValue());
+        assertThat(all).extracting(PostSummary::getId).doesNotHaveDuplicates();
+        assertNewestFirst(all);
+    }
+
+    @Test
+    void likedPostsPageThroughLegacyVotesAfterBackfill() {
+        SiteUser author = newUser("liked-author");
+        SiteUser voter = newUser("liked-voter");
+        writePosts(author, 15, i -> BASE.plusMinutes(i));
+        List<Long> postIds = jdbcTemplate.queryForList("select id from post where author_id = ?", Long.class, author.getId());
+        postIds.forEach(id -> postService.vote(id, voter));
+
+        // 조인 테이블 시절의 추천처럼 추천 시각이 비어 있고 활동 수도 채워지지 않은 상태
+        jdbcTemplate.update("update post_voter set create_date = null where voter_id = ?", voter.getId());
+        jdbcTemplate.update("update site_user set post_count = 0, reply_count = 0, like_count = 0 where id in (?, ?)",
+                author.getId(), voter.getId());
+        activityCountInitializer.afterSingletonsInstantiated();
+
+        List<LikedPost> all = collect(cursor -> postService.getMyLikedPosts(voter, cursor, 4));
+
+        assertThat(all).extracting(LikedPost::getId).containsExactlyInAnyOrderElementsOf(postIds);
+        assertThat(counter("post_count", author)).isEqualTo(15);
+        assertThat(counter("like_count", voter)).isEqualTo(15);
+    }
+
+    private <T> List<T> collect(Function<String, CursorSlice<T>> page) {
+        List<T> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSlice<T> slice = page.apply(cursor);
+            all.addAll(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private static void assertNewestFirst(List<PostSummary> posts) {
+        for (int i = 1; i < posts.size(); i++) {
+            PostSummary prev = posts.get(i - 1);
+            PostSummary cur = posts.get(i);
+            int byDate = prev.getCreateDate().compareTo(cur.getCreateDate());
+            assertThat(byDate > 0 || (byDate == 0 && prev.getId() > cur.getId()))
+                    .as("%s 다음에 %s", prev.getId(), cur.getId()).isTrue();
+        }
+    }
+
+    private void writePosts(SiteUser author, int count, Function<Integer, LocalDateTime> createDate) {
+        List<PostBatchItem> items = IntStream.range(0, count).mapToObj(i -> {
+            PostBatchItem item = new PostBatchItem();
+            item.setTitle("커서 테스트 " + i);
+            item.setContent("내용 " + i);
+            item.setCreateDate(createDate.apply(i));
+            return item;
+        }).toList();
+        postService.writeAll(items, author, 7, progress -> {
+        });
+    }
+
+    private int counter(String column, SiteUser user) {
+        return jdbcTemplate.queryForObject("select " + column + " from site_user where id = ?", Integer.class, user.getId());
+    }
+
+    private SiteUser newUser(String prefix) {
+        SiteUser user = new SiteUser();
+        user.setUsername(prefix + "-" + UUID.randomUUID());
+        user.setEmail(user.getUsername() + "@oak.test");
+        user.setPassword("{noop}password");
+        return userRepository.save(user);
+    }
+}
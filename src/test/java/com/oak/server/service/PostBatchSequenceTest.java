@@ -0,0 +1,82 @@
+package com.oak.server.service;
+
+import com.oak.server.domain.SiteUser;
+import com.oak.server.dto.BatchProgress;
+import com.oak.server.dto.PostBatchItem;
+import com.oak.server.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 시퀀스 id 로 묶음 등록: 시퀀스가 기존 행보다 뒤처져 있어도 기동 시 정렬 후에는 id 가 겹치지 않는지
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class PostBatchSequenceTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchInsertAfterSequenceFellBehindExistingRows() {
+        SiteUser author = newUser();
+        postService.writeAll(items(60), author, 60, progress -> {
+        });
+        Long maxBefore = jdbcTemplate.queryForObject("select max(id) from post", Long.class);
+
+        // IDENTITY 로 쌓인 행이 있는데 시퀀스는 처음부터 시작하는 상태 (전환 직후)
+        jdbcTemplate.execute("alter sequence post_seq restart with 1");
+        idSequenceInitializer.afterSingletonsInstantiated();
+        BatchProgress result = postService.writeAll(items(120), author, 50, progress -> {
+        });
+
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.posts()).isEqualTo(120);
+        List<Long> ids = jdbcTemplate.queryForList("select id from post where author_id = ?", Long.class, author.getId());
+        assertThat(ids).hasSize(180).doesNotHaveDuplicates();
+        assertThat(ids.stream().filter(id -> id > maxBefore)).hasSize(120);
+        assertThat(jdbcTemplate.queryForObject("select post_count from site_user where id = ?", Integer.class,
+                author.getId())).isEqualTo(180);
+    }
+
+    @Test
+    void alignmentNeverMovesSequenceBackwards() {
+        jdbcTemplate.execute("alter sequence post_seq restart with 1000000");
+
+        idSequenceInitializer.afterSingletonsInstantiated();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select base_value from information_schema.sequences where lower(sequence_name) = 'post_seq'",
+                Long.class)).isEqualTo(1_000_000L);
+    }
+
+    private static List<PostBatchItem> items(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            PostBatchItem item = new PostBatchItem();
+            item.setTitle("이관 글 " + i);
+            item.setContent("이관 내용 " + i);
+            return item;
+        }).toList();
+    }
+
+    private SiteUser newUser() {
+        SiteUser user = new SiteUser();
+        user.setUsername("batch-" + UUID.randomUUID());
+        user.setEmail(user.getUsername() + "@oak.test");
+        user.setPassword("{noop}password");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,161 @@
+package com.oak.server.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewCountBufferTest {
+
+    // 배치 UPDATE 대신 반영된 증가분을 모아 두는 JdbcTemplate
+    // 행마다 staged 에 쓰고 커밋될 때 applied 로 옮긴다 (failuresLeft 만큼은 failAfterRows 행을 쓴 뒤 실패)
+    static class RecordingJdbcTemplate extends JdbcTemplate {
+        final Map<Long, Long> applied = new ConcurrentHashMap<>();
+        final Map<Long, Long> staged = new ConcurrentHashMap<>();
+        final AtomicInteger failuresLeft = new AtomicInteger();
+        volatile int failAfterRows;
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            boolean fail = failuresLeft.getAndUpdate(n -> Math.max(0, n - 1)) > 0;
+            for (int i = 0; i < batchArgs.size(); i++) {
+                if (fail && i == failAfterRows) {
+                    throw new DataAccessResourceFailureException("db down");
+                }
+                Object[] row = batchArgs.get(i);
+                staged.merge((Long) row[1], (Long) row[0], Long::sum);
+            }
+            return new int[batchArgs.size()];
+        }
+    }
+
+    // 커밋하면 staged 를 applied 로 옮기고, 롤백하면 버림
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private final RecordingJdbcTemplate jdbcTemplate;
+
+        RecordingTransactionManager(RecordingJdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            jdbcTemplate.staged.forEach((postId, delta) -> jdbcTemplate.applied.merge(postId, delta, Long::sum));
+            jdbcTemplate.staged.clear();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            jdbcTemplate.staged.clear();
+        }
+    }
+
+    private static ViewCountBuffer newBuffer(RecordingJdbcTemplate jdbcTemplate) {
+        return new ViewCountBuffer(jdbcTemplate, new TransactionTemplate(new RecordingTransactionManager(jdbcTemplate)));
+    }
+
+    @Test
+    void flushWhileIncrementingLosesNoViews() throws Exception {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        ViewCountBuffer buffer = newBuffer(jdbcTemplate);
+        int threads = 8;
+        int perThread = 20_000;
+        long posts = 16;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    buffer.increment(i % posts);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        // 누적과 반영이 겹치도록 끝날 때까지 계속 flush
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            buffer.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        buffer.flush();
+        pool.shutdown();
+
+        for (long id = 0; id < posts; id++) {
+            assertThat(jdbcTemplate.applied.get(id)).isEqualTo(threads * perThread / posts);
+            assertThat(buffer.pending(id)).isZero();
+        }
+    }
+
+    @Test
+    void failedFlushKeepsViewsForNextFlush() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        ViewCountBuffer buffer = newBuffer(jdbcTemplate);
+        jdbcTemplate.failuresLeft.set(1);
+
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.flush();
+
+        assertThat(jdbcTemplate.applied).isEmpty();
+        assertThat(buffer.pending(1L)).isEqualTo(3);
+
+        buffer.increment(1L);
+        buffer.flush();
+
+        assertThat(jdbcTemplate.applied).containsEntry(1L, 4L);
+        assertThat(buffer.pending(1L)).isZero();
+    }
+
+    @Test
+    void partiallyAppliedBatchIsRolledBackAndRetriedOnce() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        ViewCountBuffer buffer = newBuffer(jdbcTemplate);
+        jdbcTemplate.failuresLeft.set(1);
+        jdbcTemplate.failAfterRows = 2;
+
+        for (long postId = 1; postId <= 4; postId++) {
+            buffer.increment(postId);
+            buffer.increment(postId);
+        }
+        buffer.flush();
+
+        // 앞의 두 행은 쓰였지만 롤백되어 반영되지 않음
+        assertThat(jdbcTemplate.applied).isEmpty();
+
+        buffer.flush();
+
+        for (long postId = 1; postId <= 4; postId++) {
+            assertThat(jdbcTemplate.applied).containsEntry(postId, 2L);
+            assertThat(buffer.pending(postId)).isZero();
+        }
+    }
+}
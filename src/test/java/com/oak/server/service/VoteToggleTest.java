@@ -0,0 +1,128 @@
+package com.oak.server.service;
+
+import com.oak.server.domain.SiteUser;
+import com.oak.server.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 추천 토글: 방향이 번갈아 바뀌고, 같은 회원의 동시 요청(연속 클릭)도 실패 없이 차례로 적용되며 추천 수가 행 수와 맞는지
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class VoteToggleTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private ReplyService replyService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void postVoteTogglesAndKeepsCounters() {
+        SiteUser author = newUser("vote-author");
+        SiteUser voter = newUser("vote-voter");
+        Long postId = newPost(author);
+
+        assertThat(postService.vote(postId, voter)).isTrue();
+        assertThat(count("select vote_count from post where id = ?", postId)).isEqualTo(1);
+        assertThat(count("select like_count from site_user where id = ?", voter.getId())).isEqualTo(1);
+
+        assertThat(postService.vote(postId, voter)).isFalse();
+        assertThat(count("select vote_count from post where id = ?", postId)).isZero();
+        assertThat(count("select like_count from site_user where id = ?", voter.getId())).isZero();
+        assertThat(count("select count(*) from post_voter where post_id = ?", postId)).isZero();
+    }
+
+    @Test
+    void voteOnMissingTargetIsRejected() {
+        SiteUser voter = newUser("vote-missing");
+
+        assertThatThrownBy(() -> postService.vote(Long.MAX_VALUE, voter)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> replyService.vote(Long.MAX_VALUE, voter)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void concurrentPostTogglesBySameUserAllApply() throws Exception {
+        SiteUser author = newUser("vote-race-author");
+        SiteUser voter = newUser("vote-race-voter");
+        Long postId = newPost(author);
+
+        List<Boolean> results = runConcurrently(8, () -> postService.vote(postId, voter));
+
+        // 짝수 번 토글이므로 추천 4번, 취소 4번 -> 최종적으로 추천 없음
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(4);
+        assertThat(count("select count(*) from post_voter where post_id = ?", postId)).isZero();
+        assertThat(count("select vote_count from post where id = ?", postId)).isZero();
+        assertThat(count("select like_count from site_user where id = ?", voter.getId())).isZero();
+    }
+
+    @Test
+    void concurrentReplyTogglesBySameUserAllApply() throws Exception {
+        SiteUser author = newUser("reply-vote-author");
+        SiteUser voter = newUser("reply-vote-voter");
+        Long postId = newPost(author);
+        replyService.write(postId, "댓글", author);
+        Long replyId = jdbcTemplate.queryForObject("select id from reply where post_id = ?", Long.class, postId);
+
+        List<Boolean> results = runConcurrently(5, () -> replyService.vote(replyId, voter));
+
+        // 홀수 번 토글 -> 추천 하나가 남음
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(3);
+        assertThat(count("select count(*) from reply_voter where reply_id = ?", replyId)).isEqualTo(1);
+        assertThat(count("select vote_count from reply where id = ?", replyId)).isEqualTo(1);
+    }
+
+    private static List<Boolean> runConcurrently(int requests, Callable<Boolean> vote) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return vote.call();
+            }));
+        }
+        start.countDown();
+        List<Boolean> results = new ArrayList<>();
+        for (Future<Boolean> future : futures) {
+            results.add(future.get());
+        }
+        pool.shutdown();
+        return results;
+    }
+
+    private Long newPost(SiteUser author) {
+        String title = "추천 테스트 " + UUID.randomUUID();
+        postService.write(title, "내용", author);
+        return jdbcTemplate.queryForObject("select id from post where title = ?", Long.class, title);
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    private SiteUser newUser(String prefix) {
+        SiteUser user = new SiteUser();
+        user.setUsername(prefix + "-" + UUID.randomUUID());
+        user.setEmail(user.getUsername() + "@oak.test");
+        user.setPassword("{noop}password");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,135 @@
+package com.oak.server.storage;
+
+import com.oak.server.domain.SiteUser;
+import com.oak.server.repository.FileReleaseRepository;
+import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.UserRepository;
+import com.oak.server.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 업로드 저장/정리: 같은 내용은 한 키, 예약 시각이 지난 파일은 참조가 없을 때만 지우고, 재사용(reserve)하면 예약이 취소되는지
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class FileStorageServiceTest {
+
+    @Autowired
+    private StoragePort storagePort;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FileReleaseRepository fileReleaseRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 예약 즉시 정리 대상이 되도록 유예 0
+    private FileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FileStorageService(storagePort, postRepository, userRepository, fileReleaseRepository,
+                transactionManager, Duration.ZERO);
+    }
+
+    @Test
+    void sameContentIsStoredOnceUnderItsHash() throws Exception {
+        String content = "같은 내용 " + UUID.randomUUID();
+
+        StoredFile first = storage.store(upload("a.PNG", content));
+        StoredFile second = storage.store(upload("b.png", content));
+
+        assertThat(first.getKey()).matches("[0-9a-f]{64}\\.png");
+        assertThat(second.getKey()).isEqualTo(first.getKey());
+        assertThat(first.getUrl()).isEqualTo(FileStorageService.URL_PREFIX + first.getKey());
+        assertThat(storagePort.exists(first.getKey())).isTrue();
+        assertThat(storage.store(upload("empty.png", ""))).isNull();
+    }
+
+    @Test
+    void sweepDeletesUnreferencedFile() throws Exception {
+        StoredFile file = storage.store(upload("sweep.png", "정리 " + UUID.randomUUID()));
+
+        storage.scheduleRelease(file.getUrl());
+        storage.sweepReleased();
+
+        assertThat(storagePort.exists(file.getKey())).isFalse();
+        assertThat(fileReleaseRepository.existsById(file.getKey())).isFalse();
+    }
+
+    @Test
+    void discardedUploadIsSwept() throws Exception {
+        // 글/프로필 저장이 실패한 요청의 파일 (컨트롤러가 discard)
+        StoredFile file = storage.store(upload("failed.png", "실패 " + UUID.randomUUID()));
+
+        storage.discard(file);
+        storage.sweepReleased();
+
+        assertThat(storagePort.exists(file.getKey())).isFalse();
+    }
+
+    @Test
+    void sweepKeepsFileStillReferenced() throws Exception {
+        StoredFile file = storage.store(upload("shared.png", "공유 " + UUID.randomUUID()));
+        Long postId = newPost(newUser("file-ref"));
+        jdbcTemplate.update("update post set file_path = ? where id = ?", file.getUrl(), postId);
+
+        storage.scheduleRelease(file.getUrl());
+        storage.sweepReleased();
+
+        // 다른 글이 쓰고 있으므로 파일은 남기고 예약만 지움
+        assertThat(storagePort.exists(file.getKey())).isTrue();
+        assertThat(fileReleaseRepository.existsById(file.getKey())).isFalse();
+    }
+
+    @Test
+    void reserveCancelsPendingRelease() throws Exception {
+        String content = "재사용 " + UUID.randomUUID();
+        StoredFile file = storage.store(upload("reuse.png", content));
+
+        storage.scheduleRelease(file.getUrl());
+        assertThat(fileReleaseRepository.existsById(file.getKey())).isTrue();
+
+        // 같은 내용을 다시 올리면 store 가 reserve 로 예약을 취소
+        storage.store(upload("reuse-again.png", content));
+        storage.sweepReleased();
+
+        assertThat(fileReleaseRepository.existsById(file.getKey())).isFalse();
+        assertThat(storagePort.exists(file.getKey())).isTrue();
+    }
+
+    private static MockMultipartFile upload(String name, String content) {
+        return new MockMultipartFile("file", name, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long newPost(SiteUser author) {
+        String title = "파일 참조 " + UUID.randomUUID();
+        postService.write(title, "내용", author);
+        return jdbcTemplate.queryForObject("select id from post where title = ?", Long.class, title);
+    }
+
+    private SiteUser newUser(String prefix) {
+        SiteUser user = new SiteUser();
+        user.setUsername(prefix + "-" + UUID.randomUUID());
+        user.setEmail(user.getUsername() + "@oak.test");
+        user.setPassword("{noop}password");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,152 @@
+package com.oak.server.trending;
+
+import com.oak.server.domain.SiteUser;
+import com.oak.server.domain.TrendingScore;
+import com.oak.server.dto.PostSummary;
+import com.oak.server.repository.PostRepository;
+import com.oak.server.repository.TrendingScoreRepository;
+import com.oak.server.repository.UserRepository;
+import com.oak.server.service.PostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인기글: 가중치 순서, 추천 취소는 그 추천이 더했던 만큼만 빼는지, 시간이 지난 점수의 감쇠, 오래 돌아도(epoch 옮기기) 점수가 넘치지 않고 순위가 유지되는지
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class TrendingServiceTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TrendingScoreRepository trendingScoreRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void ranksByWeightedActivity() {
+        TrendingService trending = newTrending(Duration.ofHours(6));
+        SiteUser author = newUser("trending-weight");
+        Long viewed = newPost(author);
+        Long replied = newPost(author);
+        Long voted = newPost(author);
+        Long cancelled = newPost(author);
+
+        trending.recordView(viewed);
+        trending.recordView(viewed);
+        trending.recordView(viewed);
+        trending.recordReply(replied);
+        LocalDateTime votedAt = LocalDateTime.now();
+        trending.recordVote(voted, true, votedAt);
+        trending.recordVote(cancelled, true, votedAt);
+        trending.recordVote(cancelled, false, votedAt);
+        trending.refresh();
+
+        // 추천 10 > 댓글 5 > 조회 3, 취소된 추천은 0 이라 빠짐
+        assertThat(ids(trending.getTrending(10))).containsExactly(voted, replied, viewed);
+        assertThat(ids(trending.getTrending(2))).containsExactly(voted, replied);
+    }
+
+    @Test
+    void cancellingAnOldVoteKeepsOtherActivity() {
+        TrendingService trending = newTrending(Duration.ofHours(6));
+        SiteUser author = newUser("trending-unvote");
+        Long active = newPost(author);
+        Long replied = newPost(author);
+
+        // 조회 3 + 댓글 5 = 8
+        trending.recordView(active);
+        trending.recordView(active);
+        trending.recordView(active);
+        trending.recordReply(active);
+        trending.recordReply(replied);
+
+        // 사흘 전 추천(지금은 10 × 2^-12)을 취소: 그만큼만 빠져야 함 (지금 시각으로 10 을 빼면 0 으로 떨어짐)
+        trending.recordVote(active, false, LocalDateTime.now().minusDays(3));
+        trending.refresh();
+
+        assertThat(ids(trending.getTrending(10))).containsExactly(active, replied);
+    }
+
+    @Test
+    void olderActivityDecays() throws Exception {
+        TrendingService trending = newTrending(Duration.ofMillis(100));
+        SiteUser author = newUser("trending-decay");
+        Long older = newPost(author);
+        Long newer = newPost(author);
+
+        trending.recordView(older);
+        trending.recordView(older);
+        trending.recordView(older);
+        Thread.sleep(300); // 반감기 3번 -> 3 이 0.375 로
+
+        trending.recordView(newer);
+        trending.refresh();
+
+        assertThat(ids(trending.getTrending(10))).containsExactly(newer, older);
+    }
+
+    @Test
+    void rebasedScoresStayFinite() throws Exception {
+        // 반감기 1ms: 256ms 가 지나면 refresh 가 epoch 를 옮김. 옮기지 않으면 1024ms 뒤 2^1024 로 넘침
+        TrendingService trending = newTrending(Duration.ofMillis(1));
+        SiteUser author = newUser("trending-rebase");
+        Long earlier = newPost(author);
+        Long later = newPost(author);
+
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(300);
+            trending.refresh();
+        }
+        trending.recordView(earlier);
+        trending.recordView(later);
+        trending.recordView(later);
+        trending.refresh();
+        assertThat(ids(trending.getTrending(10))).containsExactly(later, earlier);
+
+        // 저장되는 감쇠 점수도 유한한 값 (넘쳤다면 Infinity × 0 = NaN)
+        trending.persist();
+        List<TrendingScore> saved = trendingScoreRepository.findAllById(List.of(earlier, later));
+        assertThat(saved).hasSize(2).allSatisfy(score -> assertThat(score.getScore()).isFinite());
+    }
+
+    private TrendingService newTrending(Duration halfLife) {
+        return new TrendingService(postRepository, trendingScoreRepository, transactionTemplate,
+                new SimpleMeterRegistry(), halfLife, 10, 5, 100, 100_000);
+    }
+
+    private static List<Long> ids(List<PostSummary> summaries) {
+        return summaries.stream().map(PostSummary::getId).toList();
+    }
+
+    private Long newPost(SiteUser author) {
+        String title = "인기글 " + UUID.randomUUID();
+        postService.write(title, "내용", author);
+        return jdbcTemplate.queryForObject("select id from post where title = ?", Long.class, title);
+    }
+
+    private SiteUser newUser(String prefix) {
+        SiteUser user = new SiteUser();
+        user.setUsername(prefix + "-" + UUID.randomUUID());
+        user.setEmail(user.getUsername() + "@oak.test");
+        user.setPassword("{noop}password");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,166 @@
+package com.oak.server.web;
+
+import com.oak.server.domain.SiteUser;
+import com.oak.server.repository.UserRepository;
+import com.oak.server.service.PostService;
+import com.oak.server.service.ReplyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 조건부 GET: 바뀌지 않았으면 304, 바뀌면 200 + 새 ETag, 200 의 ETag 는 DB 가 아니라 실제로 보낸 본문 기준
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class ConditionalGetTest {
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private ReplyService replyService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void detailIsNotModifiedUntilThePostChanges() throws Exception {
+        SiteUser author = newUser("etag-author");
+        Long postId = newPost(author);
+
+        MockHttpServletResponse first = fetch("/api/posts/" + postId, null);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(etag).isNotNull();
+        assertThat(fetch("/api/posts/" + postId, etag).getStatus()).isEqualTo(304);
+
+        // 추천은 revision 을 올리고 커밋 후 캐시를 지운다
+        postService.vote(postId, newUser("etag-voter"));
+
+        MockHttpServletResponse changed = fetch("/api/posts/" + postId, etag);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(fetch("/api/posts/" + postId, changed.getHeader(HttpHeaders.ETAG)).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void cachedDetailIsTaggedWithItsOwnRevision() throws Exception {
+        SiteUser author = newUser("etag-stale");
+        Long postId = newPost(author);
+        String etag = fetch("/api/posts/" + postId, null).getHeader(HttpHeaders.ETAG);
+
+        // 캐시를 지우지 않고 DB 만 바뀐 상태 (다른 인스턴스의 변경, 1차 캐시 TTL 안)
+        jdbcTemplate.update("update post set revision = revision + 1 where id = ?", postId);
+
+        // 캐시에서 나온 옛 본문에는 옛 ETag 가 붙어야 한다 (새 ETag 가 붙으면 옛 본문이 계속 304 로 재사용됨)
+        MockHttpServletResponse stale = fetch("/api/posts/" + postId, null);
+        assertThat(stale.getStatus()).isEqualTo(200);
+        assertThat(stale.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        // 304 판단은 DB 버전으로
+        assertThat(fetch("/api/posts/" + postId, etag).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void replyVoteRefreshesTheCachedDetailTag() throws Exception {
+        SiteUser author = newUser("etag-reply");
+        Long postId = newPost(author);
+        replyService.write(postId, "댓글", author);
+        Long replyId = jdbcTemplate.queryForObject("select id from reply where post_id = ?", Long.class, postId);
+        String etag = fetch("/api/posts/" + postId, null).getHeader(HttpHeaders.ETAG);
+
+        // 댓글 추천은 댓글 목록 ETag 를 위해 글 revision 을 올리므로 캐시된 상세도 커밋 후 지워져야 한다
+        replyService.vote(replyId, newUser("etag-reply-voter"));
+
+        MockHttpServletResponse changed = fetch("/api/posts/" + postId, etag);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(fetch("/api/posts/" + postId, changed.getHeader(HttpHeaders.ETAG)).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void replyEditRefreshesTheCachedDetailTag() throws Exception {
+        SiteUser author = newUser("etag-reply-edit");
+        Long postId = newPost(author);
+        replyService.write(postId, "댓글", author);
+        Long replyId = jdbcTemplate.queryForObject("select id from reply where post_id = ?", Long.class, postId);
+        String etag = fetch("/api/posts/" + postId, null).getHeader(HttpHeaders.ETAG);
+
+        // 댓글 수정도 글 revision 을 올리므로 캐시된 상세가 커밋 후 지워져야 한다
+        replyService.edit(replyId, "수정한 댓글");
+
+        MockHttpServletResponse changed = fetch("/api/posts/" + postId, etag);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(fetch("/api/posts/" + postId, changed.getHeader(HttpHeaders.ETAG)).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void listIsNotModifiedUntilAPostIsAdded() throws Exception {
+        SiteUser author = newUser("etag-list");
+        newPost(author);
+
+        MockHttpServletResponse first = fetch("/api/posts?page=0", null);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(etag).isNotNull();
+        assertThat(fetch("/api/posts?page=0", etag).getStatus()).isEqualTo(304);
+
+        newPost(author);
+
+        MockHttpServletResponse changed = fetch("/api/posts?page=0", etag);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(fetch("/api/posts?page=0", changed.getHeader(HttpHeaders.ETAG)).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void searchIsNotConditional() throws Exception {
+        MockHttpServletResponse response = fetch("/api/posts?kw=etag", null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private MockHttpServletResponse fetch(String uri, String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders.get(uri);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private Long newPost(SiteUser author) {
+        String title = "조건부 GET " + UUID.randomUUID();
+        postService.write(title, "내용", author);
+        return jdbcTemplate.queryForObject("select id from post where title = ?", Long.class, title);
+    }
+
+    private SiteUser newUser(String prefix) {
+        SiteUser user = new SiteUser();
+        user.setUsername(prefix + "-" + UUID.randomUUID());
+        user.setEmail(user.getUsername() + "@oak.test");
+        user.setPassword("{noop}password");
+        return userRepository.save(user);
+    }
+}